@@ -0,0 +1,358 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.cos.osf.client.retrofit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.squareup.okhttp.ResponseBody;
+import org.dataconservancy.cos.osf.client.model.Comment;
+import org.dataconservancy.cos.osf.client.model.Contributor;
+import org.dataconservancy.cos.osf.client.model.FileVersion;
+import org.dataconservancy.cos.osf.client.model.Identifier;
+import org.dataconservancy.cos.osf.client.model.Log;
+import org.dataconservancy.cos.osf.client.model.File;
+import org.dataconservancy.cos.osf.client.model.Institution;
+import org.dataconservancy.cos.osf.client.model.License;
+import org.dataconservancy.cos.osf.client.model.MetaSchema;
+import org.dataconservancy.cos.osf.client.model.Node;
+import org.dataconservancy.cos.osf.client.model.LightNode;
+import org.dataconservancy.cos.osf.client.model.Registration;
+import org.dataconservancy.cos.osf.client.model.LightRegistration;
+import org.dataconservancy.cos.osf.client.model.User;
+import org.dataconservancy.cos.osf.client.model.LightUser;
+import org.dataconservancy.cos.osf.client.model.Wiki;
+
+/**
+ * Asynchronous counterpart of {@link OsfService}.  Each method of this interface has the same name and parameters as a
+ * method of {@code OsfService}, and answers a {@code CompletableFuture} of the body of the response instead of a
+ * Retrofit {@code Call}.
+ * <p>
+ * Requests are executed by the dispatcher of the HTTP client underlying the {@code OsfService}, not by the calling
+ * thread, so callers may compose requests (e.g. retrieving a registration, its contributors, and then each user)
+ * without blocking a thread of their own per request.  A future is completed exceptionally if the request fails, or if
+ * the response does not carry a successful HTTP status code.  Cancelling a future cancels the request.
+ * </p>
+ * <p>
+ * Response bodies are not converted by the dispatcher: converting a body resolves its relationships, which issues
+ * further, blocking, requests.  Bodies are converted, and futures completed, by a bounded pool of daemon threads
+ * owned by each {@code AsyncOsfService} instance.  Dependent stages registered without an executor run on that pool,
+ * so a stage which blocks on another request of the same instance should specify an executor of its own.
+ * </p>
+ * <p>
+ * The semantics of URL and query parameter encoding, and of paginated collections, are those of {@code OsfService}.
+ * Traversing a paginated collection may issue further, blocking, requests on the traversing thread.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public interface AsyncOsfService {
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Comment> comment(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Comment>> comments(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Contributor> contributor(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Contributor>> contributors(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<File> file(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<File>> files(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<FileVersion> fileversion(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<FileVersion> fileversions(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Identifier> identifier(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Identifier>> identifiers(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Institution> institution(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Institution>> institutions(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<License> license(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<License>> licenses(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Log> log(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Log>> logs(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<MetaSchema> metaschema(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<MetaSchema>> metaschemas(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Node> node(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Node>> nodes(String url);
+
+    /**
+     *
+     * @param nodeId
+     * @return
+     */
+    CompletableFuture<Node> nodeById(String nodeId);
+
+    /**
+     *
+     * @return
+     */
+    CompletableFuture<List<LightNode>> nodeIds();
+
+    /**
+     *
+     * @param params
+     * @return
+     */
+    CompletableFuture<List<LightNode>> nodeIds(Map<String, String> params);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<LightNode> lightnode(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<LightNode>> lightnodes(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Registration> registration(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Registration>> registrations(String url);
+
+    /**
+     *
+     * @param id
+     * @return
+     */
+    CompletableFuture<Registration> registrationById(String id);
+
+    /**
+     *
+     * @return
+     */
+    CompletableFuture<List<LightRegistration>> registrationIds();
+
+    /**
+     *
+     * @param params
+     * @return
+     */
+    CompletableFuture<List<LightRegistration>> registrationIds(Map<String, String> params);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<LightRegistration> lightregistration(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<LightRegistration>> lightregistrations(String url);
+
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<ResponseBody> stream(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<User> user(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<User>> users(String url);
+
+    /**
+     *
+     * @param id
+     * @return
+     */
+    CompletableFuture<User> userById(String id);
+
+    /**
+     *
+     * @return
+     */
+    CompletableFuture<List<LightUser>> userIds();
+
+    /**
+     *
+     * @param params
+     * @return
+     */
+    CompletableFuture<List<LightUser>> userIds(Map<String, String> params);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<LightUser> lightuser(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<LightUser>> lightusers(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<Wiki> wiki(String url);
+
+    /**
+     *
+     * @param url
+     * @return
+     */
+    CompletableFuture<List<Wiki>> wikis(String url);
+
+}
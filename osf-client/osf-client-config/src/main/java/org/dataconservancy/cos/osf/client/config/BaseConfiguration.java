@@ -15,6 +15,9 @@
  */
 package org.dataconservancy.cos.osf.client.config;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Elliot Metsger (emetsger@jhu.edu)
  */
@@ -34,6 +37,8 @@ abstract class BaseConfiguration {
 
     int connect_timeout_ms = 10 * 1000; // 10 seconds
 
+    Map<String, TransportProfile> transports = new HashMap<>();
+
     /**
      * The remote host of the API; may be a DNS name or a dotted-quad IP.
      * <p>
@@ -192,4 +197,48 @@ abstract class BaseConfiguration {
         }
         this.connect_timeout_ms = connect_timeout_ms;
     }
+
+    /**
+     * Transport profiles, keyed by name (e.g. {@link TransportProfile#API}, {@link TransportProfile#DOWNLOAD}).
+     *
+     * @return the configured transport profiles, never {@code null}
+     */
+    public Map<String, TransportProfile> getTransports() {
+        return transports;
+    }
+
+    /**
+     * Transport profiles, keyed by name (e.g. {@link TransportProfile#API}, {@link TransportProfile#DOWNLOAD}).
+     *
+     * @param transports the transport profiles
+     */
+    public void setTransports(final Map<String, TransportProfile> transports) {
+        this.transports = transports == null ? new HashMap<>() : transports;
+    }
+
+    /**
+     * Answers the named transport profile.  Timeouts not specified by the profile are inherited from this
+     * configuration.  If no profile is configured under {@code name}, a profile with default pool and request limits,
+     * and the timeouts of this configuration, is answered.
+     *
+     * @param name the name of the transport profile
+     * @return the resolved profile, never {@code null}
+     */
+    public TransportProfile getTransport(final String name) {
+        final TransportProfile configured = transports.get(name);
+        final TransportProfile resolved = configured == null ?
+                new TransportProfile() : new TransportProfile(configured);
+
+        if (resolved.read_timeout_ms == null) {
+            resolved.read_timeout_ms = read_timeout_ms;
+        }
+        if (resolved.write_timeout_ms == null) {
+            resolved.write_timeout_ms = write_timeout_ms;
+        }
+        if (resolved.connect_timeout_ms == null) {
+            resolved.connect_timeout_ms = connect_timeout_ms;
+        }
+
+        return resolved;
+    }
 }
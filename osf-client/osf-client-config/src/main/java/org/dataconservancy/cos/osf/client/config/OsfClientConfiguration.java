@@ -27,10 +27,16 @@ public class OsfClientConfiguration extends BaseConfiguration {
 
     private static final String DEFAULT_API_VERSION = "2.2";
 
+    private static final long DEFAULT_CACHE_SIZE = 50 * 1024 * 1024;
+
     private String authHeader;
 
     private String apiVersion = DEFAULT_API_VERSION;
 
+    private String cacheDirectory;
+
+    private long cacheSize = DEFAULT_CACHE_SIZE;
+
     /**
      * The Basic authentication header that should be sent on every HTTP request, e.g.
      * {@code Basic ZW1ldHNnZaodnr1haWwuY29to9b2b2JhcmJheg==}
@@ -100,4 +106,47 @@ public class OsfClientConfiguration extends BaseConfiguration {
         this.apiVersion = apiVersion;
     }
 
+    /**
+     * The directory of the on-disk HTTP cache.  Responses of the OSF API are stored in the cache, and revalidated with
+     * conditional requests ({@code If-None-Match}, {@code If-Modified-Since}) before they are re-used.  The directory
+     * must not be used by more than one HTTP client at a time.
+     *
+     * @return the cache directory, or {@code null} if responses are not cached on disk
+     */
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * The directory of the on-disk HTTP cache.  Responses of the OSF API are stored in the cache, and revalidated with
+     * conditional requests ({@code If-None-Match}, {@code If-Modified-Since}) before they are re-used.  The directory
+     * must not be used by more than one HTTP client at a time.
+     *
+     * @param cacheDirectory the cache directory, or {@code null} if responses should not be cached on disk
+     */
+    public void setCacheDirectory(final String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * The maximum size of the on-disk HTTP cache.
+     *
+     * @return the maximum size in bytes, defaults to 50 MiB
+     */
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * The maximum size of the on-disk HTTP cache.
+     *
+     * @param cacheSize the maximum size in bytes, must be positive
+     */
+    public void setCacheSize(final long cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Cache size must be a positive integer");
+        }
+        this.cacheSize = cacheSize;
+    }
+
 }
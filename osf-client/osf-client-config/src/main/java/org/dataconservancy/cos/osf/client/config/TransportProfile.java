@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.config;
+
+/**
+ * Encapsulates the parameters of the HTTP client used for one class of traffic: the size of its connection pool, how
+ * long idle connections are kept alive, how many asynchronous requests it will execute concurrently, and its timeouts.
+ * <p>
+ * Profiles are configured by name, under the {@code transports} key of a client configuration, e.g.:
+ * </p>
+ * <pre>
+ *   "transports": {
+ *     "api": { "max_requests_per_host": 8 },
+ *     "download": { "max_idle_connections": 2, "read_timeout_ms": 120000 }
+ *   }
+ * </pre>
+ * <p>
+ * Timeouts that are not specified by a profile are inherited from the configuration that contains it (see
+ * {@link OsfClientConfiguration#getTransport(String)}).  Other parameters default to those of an unconfigured
+ * OkHttp client.
+ * </p>
+ * <p>
+ * The request limits, {@code max_requests} and {@code max_requests_per_host}, are enforced by the OkHttp
+ * {@code Dispatcher}, which only runs calls that are {@code enqueue()}d, e.g. by the {@code AsyncOsfService}.  Calls
+ * that are {@code execute()}d run on the calling thread and are not limited.  These include {@code OsfService}
+ * requests, relationship resolution, paging, and binary content downloads.  Their concurrency is bounded by the
+ * threads that issue them: for downloads, by the download threads and downloads per host of the
+ * {@code OsfContentProvider}.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class TransportProfile {
+
+    /**
+     * Names the profile used for requests to the JSON API
+     */
+    public static final String API = "api";
+
+    /**
+     * Names the profile used to download binary content
+     */
+    public static final String DOWNLOAD = "download";
+
+    int max_idle_connections = 5;
+
+    long keep_alive_ms = 5 * 60 * 1000; // 5 minutes
+
+    int max_requests = 64;
+
+    int max_requests_per_host = 5;
+
+    Integer read_timeout_ms;
+
+    Integer write_timeout_ms;
+
+    Integer connect_timeout_ms;
+
+    /**
+     * Constructs a profile with default parameters.
+     */
+    public TransportProfile() {
+
+    }
+
+    /**
+     * Constructs a copy of the supplied profile.
+     *
+     * @param toCopy the profile to copy
+     */
+    TransportProfile(final TransportProfile toCopy) {
+        this.max_idle_connections = toCopy.max_idle_connections;
+        this.keep_alive_ms = toCopy.keep_alive_ms;
+        this.max_requests = toCopy.max_requests;
+        this.max_requests_per_host = toCopy.max_requests_per_host;
+        this.read_timeout_ms = toCopy.read_timeout_ms;
+        this.write_timeout_ms = toCopy.write_timeout_ms;
+        this.connect_timeout_ms = toCopy.connect_timeout_ms;
+    }
+
+    /**
+     * The maximum number of idle connections retained in the connection pool.
+     *
+     * @return the maximum number of idle connections, greater than -1
+     */
+    public int getMax_idle_connections() {
+        return max_idle_connections;
+    }
+
+    /**
+     * The maximum number of idle connections retained in the connection pool.
+     *
+     * @param max_idle_connections the maximum number of idle connections, must be greater than -1
+     */
+    public void setMax_idle_connections(final int max_idle_connections) {
+        if (max_idle_connections < 0) {
+            throw new IllegalArgumentException("Maximum idle connections must be a positive integer");
+        }
+        this.max_idle_connections = max_idle_connections;
+    }
+
+    /**
+     * How long an idle connection is retained in the connection pool.
+     *
+     * @return keep-alive in milliseconds, greater than -1
+     */
+    public long getKeep_alive_ms() {
+        return keep_alive_ms;
+    }
+
+    /**
+     * How long an idle connection is retained in the connection pool.
+     *
+     * @param keep_alive_ms keep-alive in milliseconds, must be greater than -1
+     */
+    public void setKeep_alive_ms(final long keep_alive_ms) {
+        if (keep_alive_ms < 0) {
+            throw new IllegalArgumentException("Keep-alive must be a positive integer");
+        }
+        this.keep_alive_ms = keep_alive_ms;
+    }
+
+    /**
+     * The maximum number of asynchronous ({@code enqueue()}d) requests executed concurrently.  Synchronous
+     * ({@code execute()}d) requests are not counted or limited.
+     *
+     * @return the maximum number of concurrent asynchronous requests, greater than 0
+     */
+    public int getMax_requests() {
+        return max_requests;
+    }
+
+    /**
+     * The maximum number of asynchronous ({@code enqueue()}d) requests executed concurrently.  Synchronous
+     * ({@code execute()}d) requests are not counted or limited.
+     *
+     * @param max_requests the maximum number of concurrent asynchronous requests, must be greater than 0
+     */
+    public void setMax_requests(final int max_requests) {
+        if (max_requests < 1) {
+            throw new IllegalArgumentException("Maximum requests must be greater than 0");
+        }
+        this.max_requests = max_requests;
+    }
+
+    /**
+     * The maximum number of asynchronous ({@code enqueue()}d) requests executed concurrently against a single host.
+     * Synchronous ({@code execute()}d) requests are not counted or limited.
+     *
+     * @return the maximum number of concurrent asynchronous requests per host, greater than 0
+     */
+    public int getMax_requests_per_host() {
+        return max_requests_per_host;
+    }
+
+    /**
+     * The maximum number of asynchronous ({@code enqueue()}d) requests executed concurrently against a single host.
+     * Synchronous ({@code execute()}d) requests are not counted or limited.
+     *
+     * @param max_requests_per_host the maximum number of concurrent asynchronous requests per host, must be greater
+     *                              than 0
+     */
+    public void setMax_requests_per_host(final int max_requests_per_host) {
+        if (max_requests_per_host < 1) {
+            throw new IllegalArgumentException("Maximum requests per host must be greater than 0");
+        }
+        this.max_requests_per_host = max_requests_per_host;
+    }
+
+    /**
+     * Timeout when waiting for data to read from an open socket.
+     *
+     * @return timeout in milliseconds, or {@code null} if the timeout is inherited
+     */
+    public Integer getRead_timeout_ms() {
+        return read_timeout_ms;
+    }
+
+    /**
+     * Timeout when waiting for data to read from an open socket.
+     *
+     * @param read_timeout_ms timeout in milliseconds, must be greater than -1
+     */
+    public void setRead_timeout_ms(final Integer read_timeout_ms) {
+        if (read_timeout_ms != null && read_timeout_ms < 0) {
+            throw new IllegalArgumentException("Read timeout must be a positive integer");
+        }
+        this.read_timeout_ms = read_timeout_ms;
+    }
+
+    /**
+     * Timeout when waiting for data to be written to an open socket.
+     *
+     * @return timeout in milliseconds, or {@code null} if the timeout is inherited
+     */
+    public Integer getWrite_timeout_ms() {
+        return write_timeout_ms;
+    }
+
+    /**
+     * Timeout when waiting for data to be written to an open socket.
+     *
+     * @param write_timeout_ms timeout in milliseconds, must be greater than -1
+     */
+    public void setWrite_timeout_ms(final Integer write_timeout_ms) {
+        if (write_timeout_ms != null && write_timeout_ms < 0) {
+            throw new IllegalArgumentException("Write timeout must be a positive integer");
+        }
+        this.write_timeout_ms = write_timeout_ms;
+    }
+
+    /**
+     * Timeout when waiting to connect to a socket.
+     *
+     * @return timeout in milliseconds, or {@code null} if the timeout is inherited
+     */
+    public Integer getConnect_timeout_ms() {
+        return connect_timeout_ms;
+    }
+
+    /**
+     * Timeout when waiting to connect to a socket.
+     *
+     * @param connect_timeout_ms timeout in milliseconds, must be greater than -1
+     */
+    public void setConnect_timeout_ms(final Integer connect_timeout_ms) {
+        if (connect_timeout_ms != null && connect_timeout_ms < 0) {
+            throw new IllegalArgumentException("Connect timeout must be a positive integer");
+        }
+        this.connect_timeout_ms = connect_timeout_ms;
+    }
+}
@@ -43,6 +43,14 @@ public class JacksonOsfConfigurationServiceTest {
         assertEquals("foo", config.getAuthHeader());
         assertEquals(20 * 1000, config.connect_timeout_ms);
         assertEquals("2.2", config.getApiVersion());
+        assertEquals("/tmp/osf-client-cache", config.getCacheDirectory());
+        assertEquals(1024 * 1024, config.getCacheSize());
+
+        final TransportProfile api = config.getTransport(TransportProfile.API);
+        assertEquals(8, api.getMax_requests_per_host());
+        assertEquals(64, api.getMax_requests());
+        assertEquals(60 * 1000, (int) api.getRead_timeout_ms());
+        assertEquals(20 * 1000, (int) api.getConnect_timeout_ms());
     }
 
     @Test
@@ -57,5 +65,28 @@ public class JacksonOsfConfigurationServiceTest {
         assertEquals(7777, config.getPort());
         assertEquals("/v1/", config.getBasePath());
         assertEquals(10 * 1000, config.connect_timeout_ms);
+
+        final TransportProfile download = config.getTransport(TransportProfile.DOWNLOAD);
+        assertEquals(2, download.getMax_idle_connections());
+        assertEquals(30 * 1000, download.getKeep_alive_ms());
+        assertEquals(30 * 1000, (int) download.getRead_timeout_ms());
+    }
+
+    /**
+     * Insures that a profile which is not configured answers default limits, and the timeouts of the configuration.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnconfiguredTransport() throws Exception {
+        final JacksonWbConfigurationService underTest = new JacksonWbConfigurationService(
+                "org/dataconservancy/cos/osf/client/config/osf-client-jacksontest.json");
+
+        final TransportProfile api = underTest.getConfiguration().getTransport(TransportProfile.API);
+        assertEquals(5, api.getMax_idle_connections());
+        assertEquals(5, api.getMax_requests_per_host());
+        assertEquals(10 * 1000, (int) api.getConnect_timeout_ms());
+        assertEquals(10 * 1000, (int) api.getWrite_timeout_ms());
+        assertEquals(30 * 1000, (int) api.getRead_timeout_ms());
     }
 }
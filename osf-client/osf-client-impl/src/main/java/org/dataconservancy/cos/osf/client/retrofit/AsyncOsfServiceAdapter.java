@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.retrofit;
+
+import org.dataconservancy.cos.osf.client.support.DaemonThreadFactory;
+import retrofit.Call;
+import retrofit.Callback;
+import retrofit.Response;
+import retrofit.Retrofit;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts an {@link OsfService} to the {@link AsyncOsfService} interface.  Each method of {@code AsyncOsfService} is
+ * mapped, once, to the {@code OsfService} method with the same name and parameter types.  Invoking an
+ * {@code AsyncOsfService} method creates the corresponding Retrofit {@code Call} and
+ * {@link Call#enqueue(Callback) enqueues} it, so the request is executed by the dispatcher of the underlying HTTP
+ * client.
+ * <p>
+ * Converting a response body may itself issue blocking requests: relationships are resolved, and the first page of a
+ * collection is read, as the body is converted.  Conversion is therefore never performed by a dispatcher thread,
+ * where it would hold up the delivery of other responses.  The {@code OsfService} should be created with a
+ * {@link DeferredConverterFactory}, whose deferred bodies are converted by a bounded pool of daemon threads owned by
+ * the adapter.  Futures are completed by that pool, so dependent stages which do not specify an executor run on it
+ * as well: a dependent stage which blocks on another request of the same service must specify its own executor, or it
+ * may occupy the thread that would convert the response it waits for.  Bodies which are not deferred (e.g. a raw
+ * {@code ResponseBody}) complete the future on the dispatcher thread.
+ * </p>
+ * <p>
+ * Idle conversion threads are released after {@link #IDLE_SECONDS} seconds, so an adapter which is no longer used
+ * holds no threads.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+final class AsyncOsfServiceAdapter implements InvocationHandler {
+
+    /**
+     * {@code AsyncOsfService} methods, mapped to the {@code OsfService} methods producing their {@code Call}s
+     */
+    private static final Map<Method, Method> METHODS = new HashMap<>();
+
+    /**
+     * Seconds a conversion thread may be idle before it is released
+     */
+    static final int IDLE_SECONDS = 60;
+
+    static {
+        for (Method asyncMethod : AsyncOsfService.class.getMethods()) {
+            try {
+                METHODS.put(asyncMethod, OsfService.class.getMethod(asyncMethod.getName(),
+                        asyncMethod.getParameterTypes()));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(String.format("%s#%s has no counterpart in %s",
+                        AsyncOsfService.class.getName(), asyncMethod.getName(), OsfService.class.getName()), e);
+            }
+        }
+    }
+
+    private final OsfService osfService;
+
+    /**
+     * Converts deferred response bodies
+     */
+    private final ThreadPoolExecutor conversionExecutor;
+
+    private AsyncOsfServiceAdapter(final OsfService osfService, final int conversionThreads) {
+        this.osfService = osfService;
+        this.conversionExecutor = new ThreadPoolExecutor(conversionThreads, conversionThreads,
+                IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new DaemonThreadFactory("async-osf-conversion"));
+        this.conversionExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Answers an {@code AsyncOsfService} which issues its requests using the supplied {@code OsfService}.  The
+     * {@code OsfService} should convert response bodies using a {@link DeferredConverterFactory}.  At most
+     * {@code conversionThreads} response bodies are converted at the same time; further responses wait for a
+     * conversion thread.
+     *
+     * @param osfService the OSF service
+     * @param conversionThreads the maximum number of threads converting response bodies
+     * @return the asynchronous OSF service
+     * @throws IllegalArgumentException if {@code osfService} is {@code null}, or {@code conversionThreads} is less
+     *                                  than 1
+     */
+    static AsyncOsfService adapt(final OsfService osfService, final int conversionThreads) {
+        if (osfService == null) {
+            throw new IllegalArgumentException("OsfService must not be null.");
+        }
+
+        if (conversionThreads < 1) {
+            throw new IllegalArgumentException("Conversion threads must be a positive integer.");
+        }
+
+        return (AsyncOsfService) Proxy.newProxyInstance(AsyncOsfService.class.getClassLoader(),
+                new Class<?>[] {AsyncOsfService.class}, new AsyncOsfServiceAdapter(osfService, conversionThreads));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "AsyncOsfService adapting " + osfService;
+            }
+        }
+
+        final Call<Object> call;
+        try {
+            @SuppressWarnings("unchecked")
+            final Call<Object> c = (Call<Object>) METHODS.get(method).invoke(osfService, args);
+            call = c;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        call.enqueue(new Callback<Object>() {
+            @Override
+            public void onResponse(final Response<Object> response, final Retrofit retrofit) {
+                if (response.isSuccess()) {
+                    complete(future, response.body());
+                } else {
+                    future.completeExceptionally(new IOException(String.format(
+                            "Request for %s failed: %s %s", method.getName(), response.code(), response.message())));
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+
+        // Cancelling the future cancels the request
+        future.whenComplete((result, t) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Completes the {@code future} with the response {@code body}.  Deferred bodies are converted, and the future
+     * completed, by the {@link #conversionExecutor}.
+     *
+     * @param future the future to complete
+     * @param body the body of a successful response
+     */
+    private void complete(final CompletableFuture<Object> future, final Object body) {
+        if (!(body instanceof DeferredConverterFactory.Deferred)) {
+            future.complete(body);
+            return;
+        }
+
+        conversionExecutor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(((DeferredConverterFactory.Deferred) body).convert());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+    }
+
+}
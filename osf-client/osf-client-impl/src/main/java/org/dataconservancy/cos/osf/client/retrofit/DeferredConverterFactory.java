@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.retrofit;
+
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.ResponseBody;
+import retrofit.Converter;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A Retrofit Converter factory which defers the conversion of response bodies.  Retrofit converts the body of a
+ * response on the thread that received it, which for an {@link retrofit.Call#enqueue(retrofit.Callback) enqueued}
+ * call is a thread of the HTTP client's dispatcher.  The converters produced by this factory only buffer the body,
+ * and answer a {@link Deferred} which performs the conversion of the underlying factory when, and on whichever thread,
+ * it is {@link Deferred#convert() invoked}.
+ * <p>
+ * The objects answered as response bodies are therefore {@code Deferred}, not instances of the declared type of the
+ * service method, so this factory is only suitable for services whose callers expect it: see
+ * {@link AsyncOsfServiceAdapter}.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+final class DeferredConverterFactory extends Converter.Factory {
+
+    private final Converter.Factory delegate;
+
+    /**
+     * Constructs a factory deferring the conversions of the supplied factory.
+     *
+     * @param delegate the factory performing the conversions
+     * @throws IllegalArgumentException if {@code delegate} is {@code null}
+     */
+    DeferredConverterFactory(final Converter.Factory delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Converter factory must not be null.");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> fromResponseBody(final Type type, final Annotation[] annotations) {
+        final Converter<ResponseBody, ?> converter = delegate.fromResponseBody(type, annotations);
+        if (converter == null) {
+            return null;
+        }
+
+        return body -> new Deferred(converter, body.contentType(), body.bytes());
+    }
+
+    @Override
+    public Converter<?, RequestBody> toRequestBody(final Type type, final Annotation[] annotations) {
+        return delegate.toRequestBody(type, annotations);
+    }
+
+    /**
+     * A buffered response body, and the converter which converts it.
+     */
+    static final class Deferred {
+
+        private final Converter<ResponseBody, ?> converter;
+
+        private final MediaType contentType;
+
+        private final byte[] body;
+
+        private Deferred(final Converter<ResponseBody, ?> converter, final MediaType contentType, final byte[] body) {
+            this.converter = converter;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        /**
+         * Converts the buffered response body on the calling thread.
+         *
+         * @return the converted response body
+         * @throws IOException if the body cannot be converted
+         */
+        Object convert() throws IOException {
+            return converter.convert(ResponseBody.create(contentType, body));
+        }
+    }
+
+}
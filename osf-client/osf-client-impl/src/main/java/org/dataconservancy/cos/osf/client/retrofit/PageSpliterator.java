@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.retrofit;
+
+import com.github.jasminb.jsonapi.ResourceConverter;
+import com.github.jasminb.jsonapi.ResourceList;
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@code Spliterator} over a range of result pages, used to support parallel streams.  When the total size of a
+ * collection and the number of results per page are known, the url of each page can be computed from the url of the
+ * next page.  This spliterator splits by halving its range of pages, so that each fork-join worker retrieves and
+ * unmarshals its own pages independently.
+ * <p>
+ * Page numbers are 1-based, and the first page is the {@code ResourceList} that was supplied to the
+ * {@link PaginatedListAdapter}; it is never requested again.  Errors retrieving a page are thrown as
+ * {@code RuntimeException}.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+class PageSpliterator<T> implements Spliterator<T> {
+
+    private static final String PAGE_PARAM = "page";
+
+    private final OkHttpClient okHttp;
+
+    private final ResourceConverter converter;
+
+    private final Class<T> type;
+
+    private final ResourceList<T> firstPage;
+
+    private final HttpUrl pageUrl;
+
+    private final int perPage;
+
+    private final int total;
+
+    /**
+     * The next page to be retrieved by this spliterator, inclusive
+     */
+    private int lo;
+
+    /**
+     * The last page to be retrieved by this spliterator, exclusive
+     */
+    private final int hi;
+
+    /**
+     * Iterates over the elements of the page being consumed, {@code null} if a page has not yet been retrieved
+     */
+    private Iterator<T> current;
+
+    /**
+     * Creates a spliterator covering all the pages of a collection.
+     *
+     * @param okHttp the OkHttp client used to request pages
+     * @param converter the JSONAPI-converter used to unmarshal pages
+     * @param type the type of object contained in each page
+     * @param firstPage the first page of the collection, which must carry a 'next' link
+     * @param total the total number of elements in the collection
+     * @param perPage the number of elements in each page
+     */
+    PageSpliterator(final OkHttpClient okHttp, final ResourceConverter converter, final Class<T> type,
+                    final ResourceList<T> firstPage, final int total, final int perPage) {
+        this(okHttp, converter, type, firstPage, HttpUrl.parse(firstPage.getNext()), total, perPage, 1,
+                pageCount(total, perPage) + 1);
+    }
+
+    private PageSpliterator(final OkHttpClient okHttp, final ResourceConverter converter, final Class<T> type,
+                            final ResourceList<T> firstPage, final HttpUrl pageUrl, final int total,
+                            final int perPage, final int lo, final int hi) {
+        if (pageUrl == null) {
+            throw new IllegalArgumentException("Unable to parse 'next' link '" + firstPage.getNext() + "'");
+        }
+
+        this.okHttp = okHttp;
+        this.converter = converter;
+        this.type = type;
+        this.firstPage = firstPage;
+        this.pageUrl = pageUrl;
+        this.total = total;
+        this.perPage = perPage;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        while (current == null || !current.hasNext()) {
+            if (lo >= hi) {
+                return false;
+            }
+            current = page(lo++).iterator();
+        }
+
+        action.accept(current.next());
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation note: splits off the first half of the remaining pages.  Once this spliterator has begun to
+     * consume a page, it will no longer split.
+     * </p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (current != null || hi - lo < 2) {
+            return null;
+        }
+
+        final int mid = lo + (hi - lo) / 2;
+        final PageSpliterator<T> prefix =
+                new PageSpliterator<>(okHttp, converter, type, firstPage, pageUrl, total, perPage, lo, mid);
+        lo = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long remaining = Math.min((long) (hi - lo) * perPage, Math.max(0L, total - (long) (lo - 1) * perPage));
+        return current != null && current.hasNext() ? remaining + 1 : remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Calculates the number of pages in a collection.
+     *
+     * @param total the total number of elements in the collection
+     * @param perPage the number of elements in each page
+     * @return the number of pages
+     */
+    private static int pageCount(final int total, final int perPage) {
+        if (perPage < 1) {
+            throw new IllegalArgumentException("Results per page must be a positive integer.");
+        }
+
+        return (total + perPage - 1) / perPage;
+    }
+
+    /**
+     * Obtains the requested page of results.
+     *
+     * @param page the 1-based page number
+     * @return the page of results
+     * @throws RuntimeException if the page cannot be retrieved
+     */
+    private ResourceList<T> page(final int page) {
+        if (page == 1) {
+            return firstPage;
+        }
+
+        return fetchPage(okHttp, converter, type, pageUrl, page);
+    }
+
+    /**
+     * Retrieves and unmarshals a page of results.  The url of the page is computed by setting the {@code page} query
+     * parameter of the supplied {@code pageUrl}, which is typically the 'next' link of the first page.
+     *
+     * @param okHttp the OkHttp client used to request the page
+     * @param converter the JSONAPI-converter used to unmarshal the page
+     * @param type the type of object contained in the page
+     * @param pageUrl the url of any page of the collection
+     * @param page the 1-based page number
+     * @param <T> the type of object contained in the page
+     * @return the page of results
+     * @throws RuntimeException if the page cannot be retrieved
+     */
+    static <T> ResourceList<T> fetchPage(final OkHttpClient okHttp, final ResourceConverter converter,
+                                         final Class<T> type, final HttpUrl pageUrl, final int page) {
+        final String url = pageUrl.newBuilder().setQueryParameter(PAGE_PARAM, String.valueOf(page)).build().toString();
+        try {
+            return converter.readObjectCollection(
+                    okHttp.newCall(new Request.Builder().get().url(url).build())
+                            .execute().body().bytes(), type);
+        } catch (IOException e) {
+            throw new RuntimeException("Error retrieving results page '" + url + "': " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -37,6 +37,8 @@ public class PaginatedConverterFactory extends JSONAPIConverterFactory {
 
     private final ResourceConverter parser;
 
+    private final int readAhead;
+
     /**
      * Constructs a new converter factory with the supplied HTTP client and ResourceConverter.
      *
@@ -44,6 +46,19 @@ public class PaginatedConverterFactory extends JSONAPIConverterFactory {
      * @param converter the JSONAPI converter used to unmarshal the JSON from a page into Java objects
      */
     public PaginatedConverterFactory(final OkHttpClient okHttp, final ResourceConverter converter) {
+        this(okHttp, converter, 0);
+    }
+
+    /**
+     * Constructs a new converter factory with the supplied HTTP client and ResourceConverter.  Paginated collections
+     * produced by this factory will retrieve up to {@code readAhead} pages in the background.
+     *
+     * @param okHttp the http client used to retrieve pages
+     * @param converter the JSONAPI converter used to unmarshal the JSON from a page into Java objects
+     * @param readAhead the number of pages to retrieve in the background, {@code 0} disables read-ahead
+     */
+    public PaginatedConverterFactory(final OkHttpClient okHttp, final ResourceConverter converter,
+                                     final int readAhead) {
         super(converter);
         if (okHttp == null) {
             throw new IllegalArgumentException("OkHttp client must not be null.");
@@ -52,8 +67,13 @@ public class PaginatedConverterFactory extends JSONAPIConverterFactory {
         if (converter == null) {
             throw new IllegalArgumentException("ResourceConverter must not be null.");
         }
+
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("Read-ahead must not be negative.");
+        }
         this.okHttp = okHttp;
         this.parser = converter;
+        this.readAhead = readAhead;
     }
 
     /**
@@ -72,7 +92,7 @@ public class PaginatedConverterFactory extends JSONAPIConverterFactory {
 
         if (retrofitType.isValid() && parser.isRegisteredType(retrofitType.getType())) {
             return new PaginatedResponseBodyConverter<>(okHttp, parser, retrofitType.getType(),
-                    retrofitType.isCollection());
+                    retrofitType.isCollection(), readAhead);
         }
 
         return null;
@@ -17,16 +17,20 @@ package org.dataconservancy.cos.osf.client.retrofit;
 
 import com.github.jasminb.jsonapi.ResourceConverter;
 import com.github.jasminb.jsonapi.ResourceList;
+import com.squareup.okhttp.HttpUrl;
 import com.squareup.okhttp.OkHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,13 +49,17 @@ import java.util.stream.StreamSupport;
  *
  * Implementation notes:
  * <ul>
- *     <li>Sequential access only, parallel access is not supported</li>
+ *     <li>Parallel streams are supported when the total size of the collection and the number of results per page
+ *         are known; otherwise access is sequential</li>
  *     <li>Instances are read only; methods that attempt to modify the list throw
  *         {@code UnsupportedOperationException}</li>
  *     <li>List methods that would be complex or difficult to implement efficiently when limited to
  *         sequential access of the OSF API also throw {@code UnsupportedOperationException}</li>
  *     <li>{@link #total()} and {@link #perPage()} rely on the presence of pagination metadata in a top-level
  *         JSONAPI 'links' object.</li>
+ *     <li>When {@link #total()} and {@link #perPage()} are known, {@link #get(int)} and {@link #subList(int, int)}
+ *         retrieve only the pages containing the requested elements, and keep the most recently used pages in
+ *         memory</li>
  * </ul>
  *
  * @author Elliot Metsger (emetsger@jhu.edu)
@@ -70,6 +78,11 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
     private static final String CONTAINS_ALL_NOT_SUPPORTED = "Stream the elements of this List into a new List before" +
             " performing Collection.containsAll(Collection).";
 
+    /**
+     * The number of decoded pages retained for random access
+     */
+    private static final int PAGE_CACHE_SIZE = 4;
+
     private final ResourceList<E> resources;
 
     private final OkHttpClient okHttp;
@@ -78,6 +91,18 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
 
     private final Class<E> clazz;
 
+    private final int readAhead;
+
+    /**
+     * Pages retrieved for random access, keyed by page number, in least-recently used order
+     */
+    private final Map<Integer, List<E>> pages = new LinkedHashMap<Integer, List<E>>(PAGE_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, List<E>> eldest) {
+            return size() > PAGE_CACHE_SIZE;
+        }
+    };
+
     /**
      * Adapts the supplied {@code ResourceList} as a {@code PaginatedList}.  The supplied {@code ResourceList}
      * represents the results from an API call that returns a collection of objects.  The response from the API may
@@ -92,6 +117,21 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
      */
     public PaginatedListAdapter(final OkHttpClient okHttp, final ResourceConverter resourceConverter,
                                 final Class<E> clazz, final ResourceList<E> resources) {
+        this(okHttp, resourceConverter, clazz, resources, 0);
+    }
+
+    /**
+     * Adapts the supplied {@code ResourceList} as a {@code PaginatedList}.  Iterators and streams over this list will
+     * retrieve up to {@code readAhead} pages in the background while the current page is being consumed.
+     *
+     * @param okHttp the OkHttp client used to request additional pages of a paginated response
+     * @param resourceConverter the JSONAPI-converter used to unmarshal JSON from a response into Java objects
+     * @param clazz the type of object being retrieved in the response
+     * @param resources the first page of a response, which may have additional pages
+     * @param readAhead the number of pages to retrieve in the background, {@code 0} disables read-ahead
+     */
+    public PaginatedListAdapter(final OkHttpClient okHttp, final ResourceConverter resourceConverter,
+                                final Class<E> clazz, final ResourceList<E> resources, final int readAhead) {
         if (okHttp == null) {
             throw new IllegalArgumentException("OkHttpClient must not be null.");
         }
@@ -108,10 +148,15 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
             throw new IllegalArgumentException("Supplied resources list must not be null.");
         }
 
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("Read-ahead must not be negative.");
+        }
+
         this.resources = resources;
         this.resourceConverter = resourceConverter;
         this.okHttp = okHttp;
         this.clazz = clazz;
+        this.readAhead = readAhead;
     }
 
     @Override
@@ -186,7 +231,7 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
 
     @Override
     public Iterator<E> iterator() {
-        return new PagingIterator<>(okHttp, resourceConverter, resources, clazz);
+        return new PagingIterator<>(okHttp, resourceConverter, resources, clazz, readAhead);
     }
 
     /**
@@ -200,7 +245,7 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
      */
     @Override
     public Spliterator<E> spliterator() {
-        final PagingIterator<E> iterator = new PagingIterator<>(okHttp, resourceConverter, resources, clazz);
+        final PagingIterator<E> iterator = new PagingIterator<>(okHttp, resourceConverter, resources, clazz, readAhead);
         final int flags = Spliterator.ORDERED | Spliterator.NONNULL;
 
         if (total() > -1) {
@@ -229,12 +274,20 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
     /**
      * {@inheritDoc}
      * <p>
-     * Implementation note: simply returns a sequential stream; parallel streams are not supported.
+     * Implementation note: if the results span more than one page, and both the {@link #total() total} and
+     * {@link #perPage() per page} sizes are known, the url of every page can be computed.  In that case the returned
+     * stream is parallel, and its spliterator splits by ranges of pages, so each worker retrieves and unmarshals
+     * pages independently.  Otherwise a sequential stream is returned.
      * </p>
      * @return
      */
     @Override
     public Stream<E> parallelStream() {
+        if (pageUrl() != null) {
+            return StreamSupport.stream(
+                    new PageSpliterator<>(okHttp, resourceConverter, clazz, resources, total(), perPage()), true);
+        }
+
         return stream();
     }
 
@@ -281,15 +334,82 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
         }
 
         // if size is supported, check the upper bounds of the index
-        if (size() > -1 && index > size()) {
-            throw new IndexOutOfBoundsException("Supplied index '" + index + "' was greater than the list size '" +
-                    size() + "'");
+        if (size() > -1 && index >= size()) {
+            throw new IndexOutOfBoundsException("Supplied index '" + index + "' was greater than or equal to the " +
+                    "list size '" + size() + "'");
+        }
+
+        final HttpUrl pageUrl = pageUrl();
+        if (pageUrl != null) {
+            return elementAt(pageUrl, index);
         }
 
         return stream().skip(index).findFirst().orElseThrow(() ->
                 new IndexOutOfBoundsException("Unable to retrieve element at index " + index));
     }
 
+    /**
+     * Retrieves the element at the supplied index by retrieving only the page that contains it.
+     *
+     * @param pageUrl the url of a page of this collection
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the page does not contain an element at the index
+     */
+    private E elementAt(final HttpUrl pageUrl, final int index) {
+        final int perPage = perPage();
+        final List<E> page = page(pageUrl, index / perPage + 1);
+        final int offset = index % perPage;
+
+        if (offset >= page.size()) {
+            throw new IndexOutOfBoundsException("Unable to retrieve element at index " + index);
+        }
+
+        return page.get(offset);
+    }
+
+    /**
+     * Obtains the elements of the requested page, retrieving the page if it is not already held in memory.
+     *
+     * @param pageUrl the url of a page of this collection
+     * @param pageNumber the 1-based page number
+     * @return the elements of the page
+     */
+    private List<E> page(final HttpUrl pageUrl, final int pageNumber) {
+        synchronized (pages) {
+            final List<E> page = pages.get(pageNumber);
+            if (page != null) {
+                return page;
+            }
+        }
+
+        final ResourceList<E> retrieved = pageNumber == 1 ? resources :
+                PageSpliterator.fetchPage(okHttp, resourceConverter, clazz, pageUrl, pageNumber);
+        final List<E> page = new ArrayList<>();
+        retrieved.iterator().forEachRemaining(page::add);
+
+        synchronized (pages) {
+            pages.put(pageNumber, page);
+        }
+
+        return page;
+    }
+
+    /**
+     * Answers a url that may be used to compute the url of any page of this collection, or {@code null} if pages are
+     * not addressable.  Pages are addressable if the results span more than one page, and the {@link #total() total}
+     * and {@link #perPage() per page} sizes are known.
+     *
+     * @return the 'next' link of the first page, or {@code null} if pages are not addressable
+     */
+    private HttpUrl pageUrl() {
+        if (total() > -1 && perPage() > 0 && resources.getNext() != null) {
+            return HttpUrl.parse(resources.getNext());
+        }
+
+        return null;
+    }
+
     @Override
     public boolean contains(final Object o) {
         return indexOfInternal(o, true) > -1;
@@ -361,6 +481,15 @@ public class PaginatedListAdapter<E> implements PaginatedList<E> {
                     "this List '" + size() + "'");
         }
 
+        final HttpUrl pageUrl = pageUrl();
+        if (pageUrl != null) {
+            final List<E> result = new ArrayList<>(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                result.add(elementAt(pageUrl, i));
+            }
+            return result;
+        }
+
         return stream()
                 .skip(fromIndex)
                 .limit(toIndex - fromIndex)
@@ -38,6 +38,8 @@ public class PaginatedResponseBodyConverter<T> implements Converter<ResponseBody
 
     private final OkHttpClient okHttp;
 
+    private final int readAhead;
+
     /**
      * Contructs a new converter capable of iterating over the pages of a collection.  If the response is not a
      * collection, then pagination capabilites are not required, and the response will not be wrapped.
@@ -49,6 +51,21 @@ public class PaginatedResponseBodyConverter<T> implements Converter<ResponseBody
      */
     public PaginatedResponseBodyConverter(final OkHttpClient okHttp, final ResourceConverter resourceConverter,
                                           final Class<T> clazz, final boolean isCollection) {
+        this(okHttp, resourceConverter, clazz, isCollection, 0);
+    }
+
+    /**
+     * Contructs a new converter capable of iterating over the pages of a collection, retrieving up to
+     * {@code readAhead} pages in the background while the current page is consumed.
+     *
+     * @param okHttp the OkHttp client used to request additional pages of a paginated response
+     * @param resourceConverter the JSONAPI-converter used to unmarshal JSON from a response into Java objects
+     * @param clazz the type of object being retrieved in the response
+     * @param isCollection true if the supplied {@code clazz} represents a collection
+     * @param readAhead the number of pages to retrieve in the background, {@code 0} disables read-ahead
+     */
+    public PaginatedResponseBodyConverter(final OkHttpClient okHttp, final ResourceConverter resourceConverter,
+                                          final Class<T> clazz, final boolean isCollection, final int readAhead) {
         if (okHttp == null) {
             throw new IllegalArgumentException("OkHttp must not be null.");
         }
@@ -58,11 +75,15 @@ public class PaginatedResponseBodyConverter<T> implements Converter<ResponseBody
         if (clazz == null) {
             throw new IllegalArgumentException("Class type must not be null.");
         }
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("Read-ahead must not be negative.");
+        }
 
         this.okHttp = okHttp;
         this.resourceConverter = resourceConverter;
         this.clazz = clazz;
         this.isCollection = isCollection;
+        this.readAhead = readAhead;
     }
 
     /**
@@ -79,7 +100,7 @@ public class PaginatedResponseBodyConverter<T> implements Converter<ResponseBody
     public T convert(final ResponseBody responseBody) throws IOException {
         if (isCollection) {
             return (T) new PaginatedListAdapter<>(okHttp, resourceConverter, clazz,
-                    resourceConverter.readObjectCollection(responseBody.bytes(), clazz));
+                    resourceConverter.readObjectCollection(responseBody.bytes(), clazz), readAhead);
         } else {
             return resourceConverter.readObject(responseBody.bytes(), clazz);
         }
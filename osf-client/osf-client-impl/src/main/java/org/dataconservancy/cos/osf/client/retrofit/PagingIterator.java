@@ -19,18 +19,32 @@ import com.github.jasminb.jsonapi.ResourceConverter;
 import com.github.jasminb.jsonapi.ResourceList;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.dataconservancy.cos.osf.client.support.DaemonThreadFactory;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This iterator implementation supplies elements from an initial collection of results.  Once the initial collection
  * has been exhausted, the next page of results will be retrieved from the API.  Subsequent pages are retrieved in the
  * same fashion, until there are no more pages of results.
  * <p>
+ * If a read-ahead depth greater than zero is supplied on construction, up to that many subsequent pages are retrieved
+ * in the background while the current page is being consumed.  Read-ahead begins when the first element is requested,
+ * and no more than {@code readAhead} pages are ever held in memory in addition to the current page.
+ * </p>
+ * <p>
+ * If a page cannot be retrieved, {@link #hasNext()} and {@link #next()} throw a {@code RuntimeException} wrapping the
+ * cause, rather than ending the iteration early as if the collection had no more elements.
+ * </p>
+ * <p>
  * This class is not thread-safe; it cannot be accessed by simultaneous threads and performs no internal
  * synchronization.
  * </p>
@@ -39,7 +53,11 @@ import java.util.NoSuchElementException;
  */
 class PagingIterator<T> implements Iterator<T> {
 
-    private static final Logger LOG = LoggerFactory.getLogger(PagingIterator.class);
+    /**
+     * Retrieves pages in the background when read-ahead is enabled.  Shared by all instances.
+     */
+    private static final ExecutorService READ_AHEAD_EXECUTOR =
+            Executors.newFixedThreadPool(4, new DaemonThreadFactory("paging-read-ahead"));
 
     private final OkHttpClient okHttp;
 
@@ -47,6 +65,14 @@ class PagingIterator<T> implements Iterator<T> {
 
     private final Class<T> type;
 
+    private final int readAhead;
+
+    /**
+     * Pages being retrieved in the background, in page order.  A page that completes with {@code null} indicates
+     * there are no more pages.
+     */
+    private final Deque<CompletableFuture<ResourceList<T>>> pending = new ArrayDeque<>();
+
     ResourceList<T> currentList;
 
     Iterator<T> currentItr;
@@ -58,6 +84,17 @@ class PagingIterator<T> implements Iterator<T> {
      */
     public PagingIterator(final OkHttpClient okHttp, final ResourceConverter converter, final ResourceList<T> initial,
                           final Class<T> type) {
+        this(okHttp, converter, initial, type, 0);
+    }
+
+    /**
+     * @param okHttp
+     * @param initial
+     * @param type
+     * @param readAhead the number of pages to retrieve in the background, {@code 0} disables read-ahead
+     */
+    public PagingIterator(final OkHttpClient okHttp, final ResourceConverter converter, final ResourceList<T> initial,
+                          final Class<T> type, final int readAhead) {
         if (okHttp == null) {
             throw new IllegalArgumentException("OsfService must not be null.");
         }
@@ -74,9 +111,14 @@ class PagingIterator<T> implements Iterator<T> {
             throw new IllegalArgumentException("Type must not be null");
         }
 
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("Read-ahead must not be negative");
+        }
+
         this.okHttp = okHttp;
         this.converter = converter;
         this.type = type;
+        this.readAhead = readAhead;
         this.currentList = initial;
         this.currentItr = initial.iterator();
     }
@@ -106,11 +148,13 @@ class PagingIterator<T> implements Iterator<T> {
         }
 
         if (currentItr.hasNext()) {
+            readAhead();
             return currentItr.next();
         }
 
         // can we get more pages?
         if (getNextInternal()) {
+            readAhead();
             return currentItr.next();
         }
 
@@ -120,10 +164,15 @@ class PagingIterator<T> implements Iterator<T> {
     /**
      * Manages the state of {@code currentList} and {@code currentItr}
      *
-     *
-     * @throws IOException
+     * @return true if another page was obtained, false if there are no more pages
+     * @throws RuntimeException if the next page cannot be retrieved, once any retries have been exhausted; the
+     *                          iterator is left without further elements
      */
     boolean getNextInternal() {
+        if (readAhead > 0) {
+            return getNextReadAhead();
+        }
+
         final String next = currentList.getNext();
         if (next == null) {
             currentList = null;
@@ -132,18 +181,117 @@ class PagingIterator<T> implements Iterator<T> {
         }
 
         try {
-            currentList = converter.readObjectCollection(
-                    okHttp.newCall(new Request.Builder().get().url(next).build())
-                            .execute().body().bytes(), type);
-            currentItr = currentList.iterator();
-            return true;
-        } catch (IOException | RuntimeException e) {
-            LOG.info("Error retrieving results page '{}': {}", next, e.getMessage(), e);
+            currentList = fetchUnchecked(next);
+        } catch (RuntimeException e) {
+            // A page that cannot be retrieved must not look like the end of the collection
             currentList = null;
             currentItr = null;
+            throw e;
         }
 
-        return false;
+        currentItr = currentList.iterator();
+        return true;
+    }
+
+    /**
+     * Manages the state of {@code currentList} and {@code currentItr} when read-ahead is enabled, by taking the next
+     * page from the pages being retrieved in the background.
+     *
+     * @return true if another page was obtained, false if there are no more pages
+     * @throws RuntimeException if the next page cannot be retrieved, or the calling thread is interrupted while
+     *                          waiting for it; the iterator is left without further elements
+     */
+    private boolean getNextReadAhead() {
+        readAhead();
+
+        final CompletableFuture<ResourceList<T>> nextPage = pending.poll();
+        ResourceList<T> page = null;
+        RuntimeException failure = null;
+
+        if (nextPage != null) {
+            try {
+                page = nextPage.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new RuntimeException("Interrupted retrieving results page following '" +
+                        currentList.getNext() + "'", e);
+            } catch (ExecutionException e) {
+                failure = (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() :
+                        new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        if (page == null) {
+            pending.forEach(f -> f.cancel(true));
+            pending.clear();
+            currentList = null;
+            currentItr = null;
+            if (failure != null) {
+                throw failure;
+            }
+            return false;
+        }
+
+        currentList = page;
+        currentItr = page.iterator();
+        return true;
+    }
+
+    /**
+     * Tops up the pages being retrieved in the background, so that up to {@code readAhead} pages following the
+     * current page are requested.  Does nothing if read-ahead is disabled, or if the last page has been requested.
+     */
+    private void readAhead() {
+        while (pending.size() < readAhead) {
+            final CompletableFuture<ResourceList<T>> last = pending.peekLast();
+
+            if (last == null) {
+                if (currentList == null || currentList.getNext() == null) {
+                    return;
+                }
+                final String next = currentList.getNext();
+                pending.add(CompletableFuture.supplyAsync(() -> fetchUnchecked(next), READ_AHEAD_EXECUTOR));
+                continue;
+            }
+
+            // Avoid queuing pages beyond the last page, or beyond a page that could not be retrieved
+            if (last.isDone() && (last.isCompletedExceptionally() || last.join() == null ||
+                    last.join().getNext() == null)) {
+                return;
+            }
+
+            pending.add(last.thenApplyAsync(
+                    page -> page == null || page.getNext() == null ? null : fetchUnchecked(page.getNext()),
+                    READ_AHEAD_EXECUTOR));
+        }
+    }
+
+    /**
+     * Retrieves and unmarshals the page of results at the supplied url.
+     *
+     * @param url the url of the page
+     * @return the page of results
+     * @throws IOException if the page cannot be retrieved
+     */
+    private ResourceList<T> fetch(final String url) throws IOException {
+        return converter.readObjectCollection(
+                okHttp.newCall(new Request.Builder().get().url(url).build())
+                        .execute().body().bytes(), type);
+    }
+
+    /**
+     * Retrieves and unmarshals the page of results at the supplied url, wrapping any {@code IOException}.
+     *
+     * @param url the url of the page
+     * @return the page of results
+     * @throws RuntimeException if the page cannot be retrieved
+     */
+    private ResourceList<T> fetchUnchecked(final String url) {
+        try {
+            return fetch(url);
+        } catch (IOException e) {
+            throw new RuntimeException("Error retrieving results page '" + url + "': " + e.getMessage(), e);
+        }
     }
 
-}
\ No newline at end of file
+}
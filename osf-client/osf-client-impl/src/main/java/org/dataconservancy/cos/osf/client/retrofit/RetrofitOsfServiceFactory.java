@@ -25,17 +25,19 @@ import io.github.lukehutch.fastclasspathscanner.FastClasspathScanner;
 import org.dataconservancy.cos.osf.client.config.JacksonOsfConfigurationService;
 import org.dataconservancy.cos.osf.client.config.JacksonWbConfigurationService;
 import org.dataconservancy.cos.osf.client.config.OsfConfigurationService;
+import org.dataconservancy.cos.osf.client.config.TransportProfile;
 import org.dataconservancy.cos.osf.client.config.WbConfigurationService;
 import org.dataconservancy.cos.osf.client.support.ApiVersionInterceptor;
 import org.dataconservancy.cos.osf.client.support.AuthInterceptor;
+import org.dataconservancy.cos.osf.client.support.HttpCaches;
+import org.dataconservancy.cos.osf.client.support.TransportProfiles;
+import retrofit.Converter;
 import retrofit.Retrofit;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-
 /**
  * Factory which wires collaborating objects and produces a Retrofit service interface.
  * <p>
@@ -129,6 +131,11 @@ public class RetrofitOsfServiceFactory {
 
     private static final String NOT_NULL_IAE = "%s must not be null.";
 
+    /**
+     * The number of threads converting the response bodies of an {@link AsyncOsfService}, unless otherwise specified
+     */
+    private static final int DEFAULT_CONVERSION_THREADS = 4;
+
     /**
      * Configured OSF configuration service, provides access to the base URL of the OSF v2 API
      */
@@ -197,9 +204,8 @@ public class RetrofitOsfServiceFactory {
         if (osfConfigSvc.getConfiguration().getApiVersion() != null) {
             httpClient.interceptors().add(new ApiVersionInterceptor(osfConfigSvc.getConfiguration().getApiVersion()));
         }
-        this.httpClient.setConnectTimeout(osfConfigSvc.getConfiguration().getConnect_timeout_ms(), MILLISECONDS);
-        this.httpClient.setReadTimeout(osfConfigSvc.getConfiguration().getRead_timeout_ms(), MILLISECONDS);
-        this.httpClient.setWriteTimeout(osfConfigSvc.getConfiguration().getWrite_timeout_ms(), MILLISECONDS);
+        TransportProfiles.configure(httpClient, osfConfigSvc.getConfiguration().getTransport(TransportProfile.API));
+        HttpCaches.configure(httpClient, osfConfigSvc.getConfiguration());
 
         // ... the JSON-API converter used by Retrofit to map JSON documents to Java objects
         final List<Class<?>> domainClasses = new ArrayList<>();
@@ -268,9 +274,8 @@ public class RetrofitOsfServiceFactory {
             httpClient.interceptors().add(new ApiVersionInterceptor(osfConfigSvc.getConfiguration().getApiVersion()));
         }
 
-        this.httpClient.setConnectTimeout(osfConfigSvc.getConfiguration().getConnect_timeout_ms(), MILLISECONDS);
-        this.httpClient.setReadTimeout(osfConfigSvc.getConfiguration().getRead_timeout_ms(), MILLISECONDS);
-        this.httpClient.setWriteTimeout(osfConfigSvc.getConfiguration().getWrite_timeout_ms(), MILLISECONDS);
+        TransportProfiles.configure(httpClient, osfConfigSvc.getConfiguration().getTransport(TransportProfile.API));
+        HttpCaches.configure(httpClient, osfConfigSvc.getConfiguration());
     }
 
     /**
@@ -314,9 +319,8 @@ public class RetrofitOsfServiceFactory {
         if (osfConfigSvc.getConfiguration().getApiVersion() != null) {
             httpClient.interceptors().add(new ApiVersionInterceptor(osfConfigSvc.getConfiguration().getApiVersion()));
         }
-        this.httpClient.setConnectTimeout(osfConfigSvc.getConfiguration().getConnect_timeout_ms(), MILLISECONDS);
-        this.httpClient.setReadTimeout(osfConfigSvc.getConfiguration().getRead_timeout_ms(), MILLISECONDS);
-        this.httpClient.setWriteTimeout(osfConfigSvc.getConfiguration().getWrite_timeout_ms(), MILLISECONDS);
+        TransportProfiles.configure(httpClient, osfConfigSvc.getConfiguration().getTransport(TransportProfile.API));
+        HttpCaches.configure(httpClient, osfConfigSvc.getConfiguration());
     }
 
     /**
@@ -474,13 +478,50 @@ public class RetrofitOsfServiceFactory {
      * @return a configured Retrofit interface, ready to service requests.
      */
     public <T> T getOsfService(final Class<T> osfService) {
-        final Retrofit retrofit = new Retrofit.Builder()
+        return retrofit(jsonApiConverterFactory).create(osfService);
+    }
+
+    /**
+     * Answers a configured OSF client which issues requests asynchronously, completing a {@code CompletableFuture} with
+     * the result of each request.  Requests are sent via the OK HTTP client, and executed by its dispatcher.  Response
+     * bodies are converted to Java objects off the dispatcher, because conversion may issue further, blocking,
+     * requests.  Up to four response bodies are converted at the same time.
+     *
+     * @return a configured asynchronous OSF client, ready to service requests.
+     */
+    public AsyncOsfService getAsyncOsfService() {
+        return getAsyncOsfService(DEFAULT_CONVERSION_THREADS);
+    }
+
+    /**
+     * Answers a configured OSF client which issues requests asynchronously, completing a {@code CompletableFuture} with
+     * the result of each request.  Requests are sent via the OK HTTP client, and executed by its dispatcher.  Response
+     * bodies are converted to Java objects off the dispatcher, by a pool of at most {@code conversionThreads} threads,
+     * because conversion may issue further, blocking, requests.
+     *
+     * @param conversionThreads the maximum number of response bodies converted at the same time
+     * @return a configured asynchronous OSF client, ready to service requests.
+     * @throws IllegalArgumentException if {@code conversionThreads} is less than 1
+     */
+    public AsyncOsfService getAsyncOsfService(final int conversionThreads) {
+        return AsyncOsfServiceAdapter.adapt(
+                retrofit(new DeferredConverterFactory(jsonApiConverterFactory)).create(OsfService.class),
+                conversionThreads);
+    }
+
+    /**
+     * Answers a Retrofit instance for the OSF V2 API at the base URL obtained from the OSF configuration service, which
+     * sends requests via the OK HTTP client and converts response bodies using the supplied factory.
+     *
+     * @param converterFactory the factory of the converters used to map JSON documents to Java objects
+     * @return the Retrofit instance
+     */
+    private Retrofit retrofit(final Converter.Factory converterFactory) {
+        return new Retrofit.Builder()
                 .baseUrl(osfConfigSvc.getConfiguration().getBaseUri().toString())
-                .addConverterFactory(jsonApiConverterFactory)
+                .addConverterFactory(converterFactory)
                 .client(httpClient)
                 .build();
-
-        return retrofit.create(osfService);
     }
 
 }
@@ -18,19 +18,29 @@ package org.dataconservancy.cos.osf.client.retrofit;
 
 import com.github.jasminb.jsonapi.ResourceConverter;
 import com.github.jasminb.jsonapi.ResourceList;
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
 import org.dataconservancy.cos.osf.client.retrofit.PaginationTestUtils.Meta;
 import org.dataconservancy.cos.osf.client.retrofit.PaginationTestUtils.TestResource;
 import org.junit.Test;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.dataconservancy.cos.osf.client.retrofit.PaginationTestUtils.ofIds;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -234,11 +244,40 @@ public class PaginatedListAdapterTest {
         reset(resources);
 
         prepareForStream(testResources);
-        // parallel streams are not supported
+        // a single page of results is not split, so the stream is sequential
         assertFalse(underTest.parallelStream().isParallel());
         verifyForStream();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParallelStreamMultiplePages() throws Exception {
+        final List testResources = ofIds("1", "2", "3", "4", "5");
+        when(resources.getMeta()).thenReturn(new Meta<>(5, 2));
+        when(resources.getNext()).thenReturn("http://example.org/nodes/?page=2");
+        when(resources.iterator()).thenReturn(testResources.subList(0, 2).iterator());
+
+        // pages 2 and 3 are retrieved over HTTP; the response body carries the page number
+        final Map<String, ResourceList> pages = new HashMap<>();
+        pages.put("2", pageOf(testResources.subList(2, 4)));
+        pages.put("3", pageOf(testResources.subList(4, 5)));
+        final Map<String, Call> calls = new HashMap<>();
+        calls.put("2", callReturning("2"));
+        calls.put("3", callReturning("3"));
+        when(okHttp.newCall(any(Request.class))).then(invocation ->
+                calls.get(((Request) invocation.getArguments()[0]).httpUrl().queryParameter("page")));
+        when(converter.readObjectCollection(any(byte[].class), any(Class.class))).then(invocation ->
+                pages.get(new String((byte[]) invocation.getArguments()[0], "UTF-8")));
+
+        final Stream<?> stream = underTest.parallelStream();
+        assertTrue(stream.isParallel());
+        assertEquals(testResources, stream.collect(Collectors.toList()));
+
+        // the first page is never requested over HTTP
+        verify(okHttp, times(2)).newCall(any(Request.class));
+        verify(resources, times(1)).iterator();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testGetNegativeIndex() throws Exception {
         underTest.get(-1);
@@ -251,6 +290,46 @@ public class PaginatedListAdapterTest {
         underTest.get(testResources.size() + 1);
     }
 
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetIndexEqualsSize() throws Exception {
+        final List testResources = ofIds("1", "2");
+        prepareForStream(testResources);
+        underTest.get(testResources.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetIndexAndSubListMultiplePages() throws Exception {
+        final List testResources = ofIds("1", "2", "3", "4", "5");
+        when(resources.getMeta()).thenReturn(new Meta<>(5, 2));
+        when(resources.getNext()).thenReturn("http://example.org/nodes/?page=2");
+        when(resources.iterator()).thenReturn(testResources.subList(0, 2).iterator());
+
+        final Call pageTwo = callReturning("2");
+        final Call pageThree = callReturning("3");
+        when(okHttp.newCall(any(Request.class))).then(invocation ->
+                "2".equals(((Request) invocation.getArguments()[0]).httpUrl().queryParameter("page")) ?
+                        pageTwo : pageThree);
+        when(converter.readObjectCollection(any(byte[].class), any(Class.class))).then(invocation ->
+                "2".equals(new String((byte[]) invocation.getArguments()[0], "UTF-8")) ?
+                        pageOf(testResources.subList(2, 4)) : pageOf(testResources.subList(4, 5)));
+
+        // only the page containing the element is retrieved
+        assertEquals(testResources.get(3), underTest.get(3));
+        verify(okHttp, times(1)).newCall(any(Request.class));
+        verify(pageTwo).execute();
+
+        // the page is retained, and not retrieved again
+        assertEquals(testResources.get(2), underTest.get(2));
+        verify(okHttp, times(1)).newCall(any(Request.class));
+
+        // each page is retrieved at most once
+        assertEquals(testResources.subList(1, 5), underTest.subList(1, 5));
+        verify(okHttp, times(2)).newCall(any(Request.class));
+        verify(pageThree).execute();
+        verify(resources, times(1)).iterator();
+    }
+
     @Test(expected = IndexOutOfBoundsException.class)
     public void testGetIndexExceedsSizeUnknownStreamLength() throws Exception {
         final List testResources = ofIds("1", "2");
@@ -345,6 +424,37 @@ public class PaginatedListAdapterTest {
         assertEquals(testResources.subList(2, 2), underTest.subList(2, 2));
     }
 
+    /**
+     * Mocks an HTTP call whose response body is the supplied string.
+     *
+     * @param body the response body
+     * @return the call
+     * @throws Exception
+     */
+    private static Call callReturning(final String body) throws Exception {
+        final Call call = mock(Call.class);
+        when(call.execute()).thenReturn(new Response.Builder()
+                .request(new Request.Builder().url("http://example.org/nodes/").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .body(ResponseBody.create(MediaType.parse("application/vnd.api+json"), body))
+                .build());
+        return call;
+    }
+
+    /**
+     * Mocks a page of results containing the supplied elements.
+     *
+     * @param elements the elements of the page
+     * @return the page
+     */
+    @SuppressWarnings("unchecked")
+    private static ResourceList pageOf(final List elements) {
+        final ResourceList page = mock(ResourceList.class);
+        when(page.iterator()).thenReturn(elements.iterator());
+        return page;
+    }
+
     /**
      * Prepares the mocks such that PaginatedListAdapter.stream will return a stream over the supplied list.
      *
@@ -18,16 +18,27 @@ package org.dataconservancy.cos.osf.client.retrofit;
 import com.github.jasminb.jsonapi.ResourceConverter;
 import com.github.jasminb.jsonapi.ResourceList;
 import com.squareup.okhttp.Call;
+import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 
+import static org.dataconservancy.cos.osf.client.retrofit.PaginationTestUtils.ofIds;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -54,9 +65,16 @@ public class PagingIteratorTest {
     public void testGetNextInternalThrowsIOE() throws Exception {
         when(resources.getNext()).thenReturn("http://example.org/");
         when(okHttp.newCall(any())).thenReturn(call);
-        when(call.execute()).thenThrow(new IOException("Error message here"));
+        final IOException ioe = new IOException("Error message here");
+        when(call.execute()).thenThrow(ioe);
 
-        assertFalse(underTest.getNextInternal());
+        // The failure is surfaced, rather than ending the iteration as if there were no more pages
+        try {
+            underTest.getNextInternal();
+            fail("Expected a RuntimeException");
+        } catch (RuntimeException e) {
+            assertSame(ioe, e.getCause());
+        }
 
         // Iterator retrieved on construction, but it is *not* retrieved in getNextInternal()
         verify(resources, times(1)).iterator();
@@ -78,5 +96,58 @@ public class PagingIteratorTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadAhead() throws Exception {
+        final ResourceList<?> secondPage = mock(ResourceList.class);
+        when(resources.iterator()).thenReturn(ofIds("a", "b").iterator());
+        when(resources.getNext()).thenReturn("http://example.org/?page=2");
+        when(secondPage.iterator()).thenReturn(ofIds("c").iterator());
+        when(secondPage.getNext()).thenReturn(null);
+        when(okHttp.newCall(any())).thenReturn(call);
+        when(call.execute()).thenReturn(new Response.Builder()
+                .request(new Request.Builder().url("http://example.org/?page=2").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .body(ResponseBody.create(MediaType.parse("application/vnd.api+json"), "{}"))
+                .build());
+        when(converter.readObjectCollection(any(byte[].class), eq(clazz))).thenReturn((ResourceList) secondPage);
+
+        final PagingIterator<?> readAhead = new PagingIterator(okHttp, converter, resources, clazz, 2);
+        final List<Object> elements = new ArrayList<>();
+        readAhead.forEachRemaining(elements::add);
+
+        assertEquals(ofIds("a", "b", "c"), elements);
+
+        // The second page is requested exactly once, even though the read-ahead depth exceeds the number of pages
+        verify(okHttp, times(1)).newCall(any());
+        verify(call, times(1)).execute();
+    }
+
+    @Test
+    public void testReadAheadThrowsIOE() throws Exception {
+        final IOException ioe = new IOException("Error message here");
+        when(resources.iterator()).thenReturn(ofIds("a").iterator());
+        when(resources.getNext()).thenReturn("http://example.org/?page=2");
+        when(okHttp.newCall(any())).thenReturn(call);
+        when(call.execute()).thenThrow(ioe);
+
+        final PagingIterator<?> readAhead = new PagingIterator(okHttp, converter, resources, clazz, 2);
+        assertEquals(ofIds("a").get(0), readAhead.next());
+
+        try {
+            readAhead.hasNext();
+            fail("Expected a RuntimeException");
+        } catch (RuntimeException e) {
+            assertSame(ioe, e.getCause());
+        }
+
+        assertFalse(readAhead.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeReadAhead() throws Exception {
+        new PagingIterator(okHttp, converter, resources, clazz, -1);
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.cos.osf.client.retrofit;
+
+import org.dataconservancy.cos.osf.client.model.AbstractMockServerTest;
+import org.dataconservancy.cos.osf.client.model.Registration;
+import org.dataconservancy.cos.osf.client.model.User;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests concerning the behavior of the {@code AsyncOsfService}
+ *
+ * @author agent (agent@local)
+ */
+public class AsyncOsfServiceTest extends AbstractMockServerTest {
+
+    private AsyncOsfService asyncOsfService;
+
+    @Before
+    public void setUp() throws Exception {
+        factory.interceptors().add(new RecursiveInterceptor("/model-mapping/2.2/graphs/shared/", this.getClass()));
+        asyncOsfService = factory.getAsyncOsfService();
+    }
+
+    /**
+     * Insures that a future is completed with the body of the response.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRegistrationById() throws Exception {
+        final Registration registration = asyncOsfService.registrationById("36wrt").get(30, SECONDS);
+
+        assertEquals("36wrt", registration.getId());
+    }
+
+    /**
+     * Insures that response bodies are not converted by the dispatcher: the relationships resolved while converting
+     * a registration are requested, and the future is completed, by a thread that is not a dispatcher thread.  The
+     * relationship requests are held up until the completion stage has been registered, so the stage is run by the
+     * thread completing the future rather than by the test thread.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConversionOffDispatcher() throws Exception {
+        final Map<String, String> requestThreads = new ConcurrentHashMap<>();
+        final CountDownLatch stageRegistered = new CountDownLatch(1);
+        factory.interceptors().add(0, chain -> {
+            requestThreads.put(chain.request().urlString(), Thread.currentThread().getName());
+            if (!chain.request().urlString().contains("/registrations/36wrt/")) {
+                try {
+                    stageRegistered.await(30, SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            return chain.proceed(chain.request());
+        });
+
+        final CompletableFuture<Registration> registration = asyncOsfService.registrationById("36wrt");
+        final AtomicReference<String> completingThread = new AtomicReference<>();
+        final CompletableFuture<Registration> completed =
+                registration.whenComplete((r, t) -> completingThread.set(Thread.currentThread().getName()));
+        assertFalse(registration.isDone());
+        stageRegistered.countDown();
+        completed.get(30, SECONDS);
+
+        final String registrationThread = requestThreads.entrySet().stream()
+                .filter(e -> e.getKey().contains("/registrations/36wrt/"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Registration was not requested"));
+        assertTrue(registrationThread.startsWith("OkHttp"));
+
+        assertTrue(requestThreads.size() > 1);
+        requestThreads.entrySet().stream()
+                .filter(e -> !e.getKey().contains("/registrations/36wrt/"))
+                .forEach(e -> assertFalse(e.getKey(), e.getValue().startsWith("OkHttp")));
+        assertTrue(completingThread.get(), completingThread.get().startsWith("async-osf-conversion"));
+    }
+
+    /**
+     * Insures that requests may be composed: the users of each contributor of a registration are retrieved once the
+     * registration has been retrieved.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testComposeRegistrationUsers() throws Exception {
+        final CompletableFuture<List<User>> users = asyncOsfService.registrationById("36wrt")
+                .thenCompose(registration -> {
+                    final List<CompletableFuture<User>> userFutures = registration.getContributors().stream()
+                            .map(contributor -> asyncOsfService.user(contributor.getUserRel()))
+                            .collect(Collectors.toList());
+                    return CompletableFuture.allOf(userFutures.toArray(new CompletableFuture[userFutures.size()]))
+                            .thenApply(ignored -> userFutures.stream()
+                                    .map(CompletableFuture::join)
+                                    .collect(Collectors.toList()));
+                });
+
+        final Set<String> names = users.get(30, SECONDS).stream()
+                .map(User::getFull_name)
+                .collect(Collectors.toSet());
+
+        assertEquals(2, names.size());
+        assertTrue(names.contains("Elliot M"));
+        assertTrue(names.contains("James Martino"));
+    }
+
+}
@@ -167,4 +167,13 @@ public class TestingOsfServiceFactory {
     public <T> T getOsfService(final Class<T> osfService) {
         return factory.getOsfService(osfService);
     }
+
+    /**
+     * Answers a configured OSF client which issues requests asynchronously.
+     *
+     * @return a configured asynchronous OSF client, ready to service requests.
+     */
+    public AsyncOsfService getAsyncOsfService() {
+        return factory.getAsyncOsfService();
+    }
 }
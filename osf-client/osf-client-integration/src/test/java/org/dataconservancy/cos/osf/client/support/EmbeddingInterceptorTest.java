@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.ResourceConverter;
+import com.github.jasminb.jsonapi.annotations.Type;
+import com.squareup.okhttp.Connection;
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import org.dataconservancy.cos.osf.client.model.Node;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Insures proper behavior of the EmbeddingInterceptor
+ *
+ * @author agent (agent@local)
+ */
+public class EmbeddingInterceptorTest {
+
+    private static final MediaType JSON = MediaType.parse("application/vnd.api+json");
+
+    private static final Map<String, List<String>> EMBEDS =
+            Collections.singletonMap("nodes", Arrays.asList("contributors", "license"));
+
+    private static final String NODE = "{\"data\": {\"type\": \"nodes\", \"id\": \"abc\"," +
+            "\"attributes\": {\"title\": \"Node\"}," +
+            "\"relationships\": {" +
+            "\"contributors\": {\"links\": {\"related\": " +
+            "{\"href\": \"http://localhost/v2/nodes/abc/contributors/\"}}}," +
+            "\"license\": {\"links\": {\"related\": {\"href\": \"http://localhost/v2/licenses/xyz/\"}}}}," +
+            "\"embeds\": {" +
+            "\"contributors\": {\"data\": [{\"type\": \"contributors\", \"id\": \"abc-u1\"," +
+            "\"attributes\": {\"bibliographic\": true}}], \"links\": {\"next\": %s}}," +
+            "\"license\": {\"errors\": [{\"detail\": \"Not found.\"}]}}}}";
+
+    private static final String EMBEDDED_NODE = "{\"data\": {\"type\": \"nodes\", \"id\": \"abc\"," +
+            "\"attributes\": {\"title\": \"Node\"}," +
+            "\"relationships\": {" +
+            "\"contributors\": {\"links\": {\"related\": " +
+            "{\"href\": \"http://localhost/v2/nodes/abc/contributors/\"}}}," +
+            "\"license\": {\"links\": {\"related\": {\"href\": \"http://localhost/v2/licenses/mit/\"}}}}," +
+            "\"embeds\": {" +
+            "\"contributors\": {\"data\": [{\"type\": \"contributors\", \"id\": \"abc-u1\"," +
+            "\"attributes\": {\"bibliographic\": true}}], \"links\": {\"next\": null}}," +
+            "\"license\": {\"data\": {\"type\": \"licenses\", \"id\": \"mit\"," +
+            "\"attributes\": {\"name\": \"MIT License\"}}}}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final ModelClassScanner scanner =
+            new ModelClassScanner("org.dataconservancy.cos.osf.client.model", Type.class);
+
+    /**
+     * Insures that embeds, and the sparse fieldsets of the requested and embedded types, are added to the request.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRequestParameters() throws Exception {
+        final RecordingChain chain = new RecordingChain("http://localhost:8000/v2/nodes/abc/", "{\"data\": null}");
+
+        new EmbeddingInterceptor(EMBEDS, scanner).intercept(chain);
+
+        final HttpUrl url = chain.proceeded.httpUrl();
+        assertEquals(Arrays.asList("contributors", "license"), url.queryParameterValues("embed"));
+
+        final List<String> nodeFields = Arrays.asList(url.queryParameter("fields[nodes]").split(","));
+        assertTrue(nodeFields.contains("title"));
+        assertTrue(nodeFields.contains("fork"));
+        assertTrue(nodeFields.contains("contributors"));
+        assertTrue(nodeFields.contains("forked_from"));
+        assertFalse(nodeFields.contains("id"));
+        assertFalse(nodeFields.contains("links"));
+
+        assertNotNull(url.queryParameter("fields[contributors]"));
+        assertNotNull(url.queryParameter("fields[licenses]"));
+        assertNull(url.queryParameter("fields[users]"));
+    }
+
+    /**
+     * Insures that requests for types without embeds or fieldsets are not modified, and that parameters present on
+     * the request are not added again.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRequestNotModified() throws Exception {
+        final EmbeddingInterceptor underTest = new EmbeddingInterceptor(EMBEDS);
+
+        RecordingChain chain = new RecordingChain("http://localhost:7777/v1/resources/abc/providers/osfstorage/", "{}");
+        underTest.intercept(chain);
+        assertEquals(chain.request().httpUrl(), chain.proceeded.httpUrl());
+
+        chain = new RecordingChain("http://localhost:8000/v2/nodes/?embed=license&page=2", "{\"data\": []}");
+        underTest.intercept(chain);
+        assertEquals(Collections.singletonList("license"), chain.proceeded.httpUrl().queryParameterValues("embed"));
+    }
+
+    /**
+     * Insures that complete embeds are moved to the included resources, and replace the relationship links, while
+     * failed embeds are left alone.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCollapseEmbeds() throws Exception {
+        final RecordingChain chain = new RecordingChain("http://localhost:8000/v2/nodes/abc/",
+                String.format(NODE, "null"));
+
+        final JsonNode result = mapper.readTree(new EmbeddingInterceptor(EMBEDS).intercept(chain).body().bytes());
+
+        assertEquals(1, result.get("included").size());
+        assertEquals("abc-u1", result.get("included").get(0).get("id").asText());
+        assertTrue(result.get("included").get(0).get("attributes").get("bibliographic").asBoolean());
+
+        final JsonNode contributors = result.get("data").get("relationships").get("contributors");
+        assertFalse(contributors.has("links"));
+        assertEquals("contributors", contributors.get("data").get(0).get("type").asText());
+        assertEquals("abc-u1", contributors.get("data").get(0).get("id").asText());
+
+        final JsonNode license = result.get("data").get("relationships").get("license");
+        assertTrue(license.has("links"));
+        assertFalse(license.has("data"));
+        assertTrue(result.get("data").get("embeds").has("license"));
+        assertFalse(result.get("data").get("embeds").has("contributors"));
+    }
+
+    /**
+     * Insures that an embedded collection with further pages is resolved by its link, rather than collapsed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPagedEmbedNotCollapsed() throws Exception {
+        final RecordingChain chain = new RecordingChain("http://localhost:8000/v2/nodes/abc/",
+                String.format(NODE, "\"http://localhost/v2/nodes/abc/contributors/?page=2\""));
+
+        final JsonNode result = mapper.readTree(new EmbeddingInterceptor(EMBEDS).intercept(chain).body().bytes());
+
+        assertFalse(result.has("included"));
+        assertTrue(result.get("data").get("relationships").get("contributors").has("links"));
+    }
+
+    /**
+     * Insures that a request rejected with a 400 because of the added parameters is retried once, as it was made.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRejectedRequestRetriedWithoutParameters() throws Exception {
+        final RecordingChain chain = new RecordingChain("http://localhost:8000/v2/nodes/abc/", "{\"data\": null}", 400);
+
+        final Response res = new EmbeddingInterceptor(EMBEDS, scanner).intercept(chain);
+
+        assertEquals(200, res.code());
+        assertEquals(2, chain.requests.size());
+        assertEquals(Arrays.asList("contributors", "license"),
+                chain.requests.get(0).httpUrl().queryParameterValues("embed"));
+        assertEquals(chain.request().httpUrl(), chain.requests.get(1).httpUrl());
+    }
+
+    /**
+     * Insures that a request which was not modified is not retried when it is rejected.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnmodifiedRequestNotRetried() throws Exception {
+        final RecordingChain chain =
+                new RecordingChain("http://localhost:8000/v2/nodes/?embed=license&page=2", "{\"data\": []}", 400);
+
+        final Response res = new EmbeddingInterceptor(EMBEDS).intercept(chain);
+
+        assertEquals(400, res.code());
+        assertEquals(1, chain.requests.size());
+    }
+
+    /**
+     * Insures that the relationships of a collapsed document are populated by the JSON-API converter from the included
+     * resources, without resolving their links.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCollapsedRelationshipsConverted() throws Exception {
+        final RecordingChain chain = new RecordingChain("http://localhost:8000/v2/nodes/abc/", EMBEDDED_NODE);
+        final AtomicInteger resolved = new AtomicInteger();
+        final ResourceConverter converter = new ResourceConverterFactory().newConverter(new ObjectMapper(), scanner,
+                url -> {
+                    resolved.incrementAndGet();
+                    return "{\"data\": null}".getBytes(StandardCharsets.UTF_8);
+                });
+
+        final Node node = converter.readObject(
+                new EmbeddingInterceptor(EMBEDS, scanner).intercept(chain).body().bytes(), Node.class);
+
+        assertEquals(0, resolved.get());
+        assertEquals(1, node.getContributors().size());
+        assertEquals("abc-u1", node.getContributors().get(0).getId());
+        assertNotNull(node.getLicense());
+        assertEquals("MIT License", node.getLicense().getName());
+    }
+
+    /**
+     * Answers a JSON response to the request it proceeds with, and records that request.  The first response may be
+     * given an error status.
+     */
+    private static class RecordingChain implements Interceptor.Chain {
+
+        private final Request request;
+
+        private final String body;
+
+        private final int firstCode;
+
+        private final List<Request> requests = new ArrayList<>();
+
+        private Request proceeded;
+
+        private RecordingChain(final String url, final String body) {
+            this(url, body, 200);
+        }
+
+        private RecordingChain(final String url, final String body, final int firstCode) {
+            this.request = new Request.Builder().url(url).build();
+            this.body = body;
+            this.firstCode = firstCode;
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Response proceed(final Request request) throws IOException {
+            proceeded = request;
+            requests.add(request);
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(requests.size() == 1 ? firstCode : 200)
+                    .body(ResponseBody.create(JSON, body))
+                    .build();
+        }
+
+        @Override
+        public Connection connection() {
+            return null;
+        }
+    }
+
+}
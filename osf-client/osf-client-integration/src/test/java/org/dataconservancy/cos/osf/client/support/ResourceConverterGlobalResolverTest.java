@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.ResourceConverter;
+import com.github.jasminb.jsonapi.annotations.Type;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import org.dataconservancy.cos.osf.client.model.Node;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Insures proper behavior of the ResourceConverterGlobalResolver
+ *
+ * @author agent (agent@local)
+ */
+public class ResourceConverterGlobalResolverTest {
+
+    private static final MediaType JSON = MediaType.parse("application/vnd.api+json");
+
+    private static final String BASE_URL = "http://localhost:8000/v2/nodes/";
+
+    private static final String EMPTY = "{\"data\": []}";
+
+    private static final String LICENSE = "{\"data\": {\"type\": \"licenses\", \"id\": \"mit\", " +
+            "\"attributes\": {\"name\": \"MIT License\"}}}";
+
+    private static final String[] RELATIONSHIPS = {"contributors", "files", "license", "wikis"};
+
+    private final ModelClassScanner scanner =
+            new ModelClassScanner("org.dataconservancy.cos.osf.client.model", Type.class);
+
+    /**
+     * Insures that the relationships of a prefetched document are retrieved concurrently: each response is withheld
+     * until every relationship has been requested, so the requests must overlap.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPrefetchedRequestsOverlap() throws Exception {
+        final AnsweringInterceptor answers = new AnsweringInterceptor(RELATIONSHIPS.length);
+        final ResourceConverterGlobalResolver underTest =
+                new ResourceConverterGlobalResolver(client(answers), scanner, RELATIONSHIPS.length);
+
+        underTest.prefetch(node("abc", RELATIONSHIPS));
+
+        for (String rel : RELATIONSHIPS) {
+            assertEquals(answer(rel), new String(underTest.resolve(related("abc", rel)), StandardCharsets.UTF_8));
+        }
+
+        assertEquals(RELATIONSHIPS.length, answers.maxInFlight.get());
+        assertEquals(RELATIONSHIPS.length, answers.requests.get());
+    }
+
+    /**
+     * Insures that the first-level relationships of a document converted by a converter from the
+     * {@link ResourceConverterFactory} are retrieved concurrently.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTopLevelConversionPrefetches() throws Exception {
+        final AnsweringInterceptor answers = new AnsweringInterceptor(RELATIONSHIPS.length);
+        final ResourceConverterGlobalResolver resolver =
+                new ResourceConverterGlobalResolver(client(answers), scanner, RELATIONSHIPS.length);
+        final ResourceConverter underTest =
+                new ResourceConverterFactory().newConverter(new ObjectMapper(), scanner, resolver);
+
+        final Node node = underTest.readObject(node("abc", RELATIONSHIPS), Node.class);
+
+        assertNotNull(node.getLicense());
+        assertEquals("MIT License", node.getLicense().getName());
+        assertTrue(node.getContributors().isEmpty());
+        assertEquals(RELATIONSHIPS.length, answers.maxInFlight.get());
+        assertEquals(RELATIONSHIPS.length, answers.requests.get());
+    }
+
+    /**
+     * Insures that once the maximum number of prefetched documents is reached, the oldest is discarded so that the
+     * newest may be prefetched.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMaxPrefetchedDiscardsOldest() throws Exception {
+        final AnsweringInterceptor answers = new AnsweringInterceptor(1);
+        final ResourceConverterGlobalResolver underTest =
+                new ResourceConverterGlobalResolver(client(answers), scanner, 1);
+        underTest.setMaxPrefetched(2);
+
+        underTest.prefetch(node("abc", "license"));
+        underTest.prefetch(node("def", "license"));
+        underTest.prefetch(node("ghi", "license"));
+        assertEquals(2, underTest.getPrefetchedCount());
+
+        // The newest document is still prefetched, and is answered without another request
+        underTest.resolve(related("ghi", "license"));
+        assertEquals(1, underTest.getPrefetchedCount());
+        assertEquals(1, answers.requestsFor(related("ghi", "license")));
+
+        // The oldest document was discarded, so it is retrieved when resolved
+        underTest.resolve(related("abc", "license"));
+        assertEquals(1, underTest.getPrefetchedCount());
+    }
+
+    /**
+     * Insures that prefetched documents which are not claimed are discarded once they expire.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnclaimedPrefetchesExpire() throws Exception {
+        final ResourceConverterGlobalResolver underTest =
+                new ResourceConverterGlobalResolver(client(new AnsweringInterceptor(1)), scanner, 1);
+        underTest.setPrefetchExpiry(1);
+
+        underTest.prefetch(node("abc", RELATIONSHIPS));
+        Thread.sleep(10);
+
+        assertEquals(0, underTest.getPrefetchedCount());
+    }
+
+    private static OkHttpClient client(final Interceptor interceptor) {
+        final OkHttpClient client = new OkHttpClient();
+        client.interceptors().add(interceptor);
+        return client;
+    }
+
+    private static byte[] node(final String id, final String... relationships) {
+        final StringBuilder rels = new StringBuilder();
+        for (String rel : relationships) {
+            rels.append(rels.length() == 0 ? "" : ",").append(String.format(
+                    "\"%s\": {\"links\": {\"related\": {\"href\": \"%s\"}}}", rel, related(id, rel)));
+        }
+        return String.format("{\"data\": {\"type\": \"nodes\", \"id\": \"%s\", " +
+                "\"attributes\": {\"title\": \"Node\"}, \"relationships\": {%s}}}", id, rels)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String related(final String id, final String relationship) {
+        return BASE_URL + id + "/" + relationship + "/";
+    }
+
+    private static String answer(final String relationship) {
+        return "license".equals(relationship) ? LICENSE : EMPTY;
+    }
+
+    /**
+     * Answers each request with the document for the relationship it addresses, without contacting a server.  Each
+     * answer is withheld until {@code overlap} requests are in flight, or five seconds have passed, so requests that
+     * are issued one at a time are never observed to overlap.
+     */
+    private static class AnsweringInterceptor implements Interceptor {
+
+        private final CountDownLatch overlap;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private final Map<String, AtomicInteger> requestsByUrl = new ConcurrentHashMap<>();
+
+        private AnsweringInterceptor(final int overlap) {
+            this.overlap = new CountDownLatch(overlap);
+        }
+
+        private int requestsFor(final String url) {
+            return requestsByUrl.getOrDefault(url, new AtomicInteger()).get();
+        }
+
+        @Override
+        public Response intercept(final Chain chain) throws IOException {
+            final String url = chain.request().urlString();
+            requests.incrementAndGet();
+            requestsByUrl.computeIfAbsent(url, u -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                overlap.countDown();
+                overlap.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted answering '" + url + "'", e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            final String[] segments = url.split("/");
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .body(ResponseBody.create(JSON, answer(segments[segments.length - 1])))
+                    .build();
+        }
+    }
+
+}
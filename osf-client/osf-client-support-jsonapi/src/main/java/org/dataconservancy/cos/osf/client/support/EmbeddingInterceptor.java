@@ -0,0 +1,382 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.jasminb.jsonapi.annotations.Id;
+import com.github.jasminb.jsonapi.annotations.Links;
+import com.github.jasminb.jsonapi.annotations.Relationship;
+import com.github.jasminb.jsonapi.annotations.Type;
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Collapses the HTTP round trips needed to resolve relationships, by asking the OSF API to embed related resources in
+ * the response, and to omit attributes that are not mapped by the model.
+ * <p>
+ * The resource type of each {@code GET} request is determined from its URL path: the last path segment names the
+ * type of a collection (e.g. {@code /v2/nodes/abc/contributors/}), or the penultimate segment names the type of a
+ * single resource (e.g. {@code /v2/nodes/abc/}).  For a request of a type with configured embeds, an {@code embed}
+ * query parameter is added for each relationship to be embedded.  If sparse fieldsets are known for the type, a
+ * {@code fields[type]} query parameter is added for the type and for the type of each embedded relationship.
+ * Parameters already present on the request, e.g. on the {@code next} link of a paginated response, are not added
+ * again.
+ * </p>
+ * <p>
+ * OSF places embedded resources in an {@code embeds} object of each resource, which the JSON-API converter does not
+ * understand.  The response is therefore rewritten: each embedded resource is moved to the top-level
+ * {@code included} array, the relationship is given the resource linkage ({@code data}) of the embedded resources,
+ * and the relationship {@code links} are removed.  The converter then populates the relationship from the included
+ * resources, instead of resolving its link with another request.  Embeds that failed (carrying {@code errors}), and
+ * embedded collections that have further pages, are left alone, so their relationships are resolved as before.
+ * </p>
+ * <p>
+ * If the API rejects a request that was modified by this interceptor with {@code 400 Bad Request} (e.g. because it
+ * does not support embedding a relationship, or a field is unknown to it), the request is retried once, exactly as
+ * it was made.  The relationships are then resolved by their links, as if this interceptor were not installed.
+ * </p>
+ * <p>
+ * Only relationships that are resolved as objects (i.e. {@code ResolutionStrategy.OBJECT}) should be embedded:
+ * relationships resolved as references read the URL of the relationship link, which is removed when an embed is
+ * collapsed.
+ * </p>
+ * <p>
+ * Sparse fieldsets are derived from the model classes annotated with the JSON-API {@code Type}: the properties that
+ * Jackson would deserialize, plus every {@code Relationship}.  Requesting exactly these fields means that nothing the
+ * model reads is omitted.  This class is thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @see <a href="http://jsonapi.org/format/#fetching-sparse-fieldsets">JSON API: Sparse Fieldsets</a>
+ */
+public class EmbeddingInterceptor implements Interceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmbeddingInterceptor.class);
+
+    private static final String EMBED = "embed";
+
+    private static final String FIELDS = "fields[%s]";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Resource types, mapped to the relationships to embed
+     */
+    private final Map<String, List<String>> embeds;
+
+    /**
+     * Resource types, mapped to the comma-separated fields to request
+     */
+    private final Map<String, String> fieldsets = new HashMap<>();
+
+    /**
+     * Resource types, mapped to their relationships and the type of each related resource
+     */
+    private final Map<String, Map<String, String>> relationshipTypes = new HashMap<>();
+
+    /**
+     * Constructs an interceptor which embeds the supplied relationships, without requesting sparse fieldsets.
+     *
+     * @param embeds resource types (e.g. {@code nodes}), mapped to the relationships to embed (e.g.
+     *               {@code contributors})
+     */
+    public EmbeddingInterceptor(final Map<String, List<String>> embeds) {
+        if (embeds == null) {
+            throw new IllegalArgumentException("Embeds must not be null.");
+        }
+
+        final Map<String, List<String>> copy = new HashMap<>();
+        embeds.forEach((type, rels) -> copy.put(type, Collections.unmodifiableList(new ArrayList<>(rels))));
+        this.embeds = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Constructs an interceptor which embeds the supplied relationships, and requests the sparse fieldsets of the
+     * model classes detected by the scanner.
+     *
+     * @param embeds resource types (e.g. {@code nodes}), mapped to the relationships to embed (e.g.
+     *               {@code contributors})
+     * @param scanner detects the model classes annotated with the JSON-API {@code Type}
+     */
+    public EmbeddingInterceptor(final Map<String, List<String>> embeds, final ModelClassScanner scanner) {
+        this(embeds);
+
+        if (scanner == null) {
+            throw new IllegalArgumentException("ModelClassScanner must not be null.");
+        }
+
+        final Map<String, Set<String>> fields = new HashMap<>();
+        scanner.getDetectedClasses().forEach(modelClass -> introspect(modelClass, fields));
+        fields.forEach((type, names) -> fieldsets.put(type, String.join(",", names)));
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        final Request req = chain.request();
+        if (!"GET".equals(req.method())) {
+            return chain.proceed(req);
+        }
+
+        final String type = resourceType(req.httpUrl());
+        if (type == null) {
+            return chain.proceed(req);
+        }
+
+        final HttpUrl.Builder url = req.httpUrl().newBuilder();
+        final List<String> rels = embeds.getOrDefault(type, Collections.emptyList());
+        final boolean embedding = !rels.isEmpty() || req.httpUrl().queryParameter(EMBED) != null;
+
+        if (req.httpUrl().queryParameter(EMBED) == null) {
+            rels.forEach(rel -> url.addQueryParameter(EMBED, rel));
+        }
+
+        final Set<String> fieldTypes = new LinkedHashSet<>();
+        fieldTypes.add(type);
+        rels.forEach(rel -> fieldTypes.add(relationshipTypes.getOrDefault(type, Collections.emptyMap()).get(rel)));
+        fieldTypes.stream()
+                .filter(t -> t != null && fieldsets.containsKey(t))
+                .filter(t -> req.httpUrl().queryParameter(String.format(FIELDS, t)) == null)
+                .forEach(t -> url.addQueryParameter(String.format(FIELDS, t), fieldsets.get(t)));
+
+        final HttpUrl modified = url.build();
+        Response res = chain.proceed(req.newBuilder().url(modified).build());
+
+        if (res.code() == 400 && !modified.equals(req.httpUrl())) {
+            LOG.debug("Request for '{}' was rejected with embeds or fieldsets: retrying without them",
+                    req.urlString());
+            if (res.body() != null) {
+                res.body().close();
+            }
+            res = chain.proceed(req);
+        }
+
+        if (!embedding || res.code() != 200 || res.body() == null || !isJson(res.body().contentType())) {
+            return res;
+        }
+
+        final MediaType contentType = res.body().contentType();
+        return res.newBuilder().body(ResponseBody.create(contentType, collapseEmbeds(res.body().bytes()))).build();
+    }
+
+    /**
+     * Moves the resources embedded in a JSON-API document to its {@code included} array, and replaces the links of
+     * the embedded relationships with resource linkage.
+     *
+     * @param document the JSON-API document
+     * @return the rewritten document, or {@code document} if it contains no embeds that could be collapsed
+     * @throws IOException if the document cannot be parsed
+     */
+    byte[] collapseEmbeds(final byte[] document) throws IOException {
+        final JsonNode root = mapper.readTree(document);
+        if (root == null || !root.isObject()) {
+            return document;
+        }
+
+        final ArrayNode included = root.has("included") && root.get("included").isArray() ?
+                (ArrayNode) root.get("included") : mapper.createArrayNode();
+        final Set<String> identifiers = new HashSet<>();
+        included.forEach(resource -> identifiers.add(identifier(resource)));
+
+        final JsonNode data = root.path("data");
+        final List<JsonNode> resources = new ArrayList<>();
+        if (data.isArray()) {
+            data.forEach(resources::add);
+        } else if (data.isObject()) {
+            resources.add(data);
+        }
+
+        boolean collapsed = false;
+        for (JsonNode resource : resources) {
+            if (resource.isObject()) {
+                collapsed |= collapseEmbeds((ObjectNode) resource, included, identifiers);
+            }
+        }
+
+        if (!collapsed) {
+            return document;
+        }
+
+        ((ObjectNode) root).set("included", included);
+        return mapper.writeValueAsBytes(root);
+    }
+
+    private boolean collapseEmbeds(final ObjectNode resource, final ArrayNode included, final Set<String> identifiers) {
+        final JsonNode embedded = resource.get("embeds");
+        if (embedded == null || !embedded.isObject()) {
+            return false;
+        }
+
+        boolean collapsed = false;
+        final Iterator<Map.Entry<String, JsonNode>> itr = embedded.fields();
+        while (itr.hasNext()) {
+            final Map.Entry<String, JsonNode> embed = itr.next();
+            final String rel = embed.getKey();
+            final JsonNode embedData = embed.getValue().get("data");
+            final JsonNode next = embed.getValue().path("links").path("next");
+
+            if (embed.getValue().has("errors") || embedData == null || !(next.isMissingNode() || next.isNull())) {
+                LOG.trace("Not collapsing embedded relationship '{}' of {}", rel, identifier(resource));
+                continue;
+            }
+
+            final JsonNode linkage;
+            if (embedData.isArray()) {
+                final ArrayNode linkages = mapper.createArrayNode();
+                embedData.forEach(related -> linkages.add(include(related, included, identifiers)));
+                linkage = linkages;
+            } else if (embedData.isObject()) {
+                linkage = include(embedData, included, identifiers);
+            } else {
+                linkage = NullNode.getInstance();
+            }
+
+            final ObjectNode relationship = resource.with("relationships").with(rel);
+            relationship.set("data", linkage);
+            relationship.remove("links");
+            itr.remove();
+            collapsed = true;
+        }
+
+        if (embedded.size() == 0) {
+            resource.remove("embeds");
+        }
+
+        return collapsed;
+    }
+
+    /**
+     * Adds the resource to the included resources, unless it is already included, and answers its linkage.
+     */
+    private ObjectNode include(final JsonNode resource, final ArrayNode included, final Set<String> identifiers) {
+        if (identifiers.add(identifier(resource))) {
+            included.add(resource);
+        }
+
+        final ObjectNode linkage = mapper.createObjectNode();
+        linkage.set("type", resource.get("type"));
+        linkage.set("id", resource.get("id"));
+        return linkage;
+    }
+
+    private static String identifier(final JsonNode resource) {
+        return resource.path("type").asText() + "/" + resource.path("id").asText();
+    }
+
+    /**
+     * Answers the type of resource requested by the URL, if the type has configured embeds or fieldsets.
+     *
+     * @param url the request URL
+     * @return the resource type, or {@code null} if the request is not for a known type
+     */
+    private String resourceType(final HttpUrl url) {
+        final List<String> segments = new ArrayList<>();
+        url.pathSegments().stream().filter(segment -> !segment.isEmpty()).forEach(segments::add);
+
+        for (int i = segments.size() - 1; i >= 0 && i >= segments.size() - 2; i--) {
+            final String segment = segments.get(i);
+            if (embeds.containsKey(segment) || fieldsets.containsKey(segment)) {
+                return segment;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isJson(final MediaType contentType) {
+        return contentType != null && contentType.subtype().contains("json");
+    }
+
+    /**
+     * Adds the fields of the model class to the fieldset of its type, and records the types of its relationships.
+     */
+    private void introspect(final Class<?> modelClass, final Map<String, Set<String>> fields) {
+        final Type type = modelClass.getAnnotation(Type.class);
+        if (type == null) {
+            return;
+        }
+
+        final Set<String> names = fields.computeIfAbsent(type.value(), t -> new TreeSet<>());
+        for (BeanPropertyDefinition property :
+                mapper.getDeserializationConfig().introspect(mapper.constructType(modelClass)).findProperties()) {
+            if (property.hasSetter() || property.hasField()) {
+                names.add(property.getName());
+            }
+        }
+
+        final Map<String, String> relTypes = relationshipTypes.computeIfAbsent(type.value(), t -> new HashMap<>());
+        for (Class<?> c = modelClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(Links.class)) {
+                    names.remove(field.getName());
+                }
+
+                final Relationship rel = field.getAnnotation(Relationship.class);
+                if (rel == null) {
+                    continue;
+                }
+
+                names.add(rel.value());
+                final Type relatedType = relatedClass(field).getAnnotation(Type.class);
+                if (relatedType != null) {
+                    relTypes.put(rel.value(), relatedType.value());
+                }
+            }
+        }
+
+        // Identifiers and links are always present, and are not fields
+        names.remove("id");
+        names.remove("links");
+    }
+
+    private static Class<?> relatedClass(final Field field) {
+        if (Collection.class.isAssignableFrom(field.getType())
+                && field.getGenericType() instanceof ParameterizedType) {
+            final java.lang.reflect.Type arg = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            if (arg instanceof Class) {
+                return (Class<?>) arg;
+            }
+        }
+
+        return field.getType();
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.ResourceConverter;
+import com.github.jasminb.jsonapi.ResourceList;
+
+/**
+ * A {@code ResourceConverter} which submits each top-level document it reads to a
+ * {@link ResourceConverterGlobalResolver} for {@link ResourceConverterGlobalResolver#prefetch(byte[]) prefetching}
+ * before converting it.  The first-level relationships of a document retrieved by Retrofit (e.g. a registration) are
+ * then retrieved concurrently, rather than one at a time as the converter reaches them.
+ * <p>
+ * Documents read while resolving relationships are prefetched by the resolver itself, so only documents read outside
+ * of a conversion are submitted by this converter.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class PrefetchingResourceConverter extends ResourceConverter {
+
+    private final ResourceConverterGlobalResolver resolver;
+
+    /**
+     * Depth of the conversions in progress on the current thread.
+     */
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Constructs a new converter for the supplied classes, which resolves relationships using, and prefetches the
+     * relationships of top-level documents with, the supplied {@code resolver}.
+     *
+     * @param mapper the Jackson ObjectMapper the converter will use
+     * @param resolver the resolver used to resolve and prefetch JSON-API relationships
+     * @param classes the classes that represent JSON-API types
+     * @throws IllegalArgumentException if {@code resolver} is {@code null}
+     */
+    public PrefetchingResourceConverter(final ObjectMapper mapper, final ResourceConverterGlobalResolver resolver,
+                                        final Class<?>... classes) {
+        super(mapper, classes);
+        if (resolver == null) {
+            throw new IllegalArgumentException("ResourceConverterGlobalResolver must not be null.");
+        }
+        this.resolver = resolver;
+        setGlobalResolver(resolver);
+    }
+
+    @Override
+    public <T> T readObject(final byte[] data, final Class<T> clazz) {
+        final int[] current = depth.get();
+        if (current[0]++ == 0) {
+            resolver.prefetch(data);
+        }
+        try {
+            return super.readObject(data, clazz);
+        } finally {
+            current[0]--;
+        }
+    }
+
+    @Override
+    public <T> ResourceList<T> readObjectCollection(final byte[] data, final Class<T> clazz) {
+        final int[] current = depth.get();
+        if (current[0]++ == 0) {
+            resolver.prefetch(data);
+        }
+        try {
+            return super.readObjectCollection(data, clazz);
+        } finally {
+            current[0]--;
+        }
+    }
+
+}
@@ -27,17 +27,25 @@ import com.github.jasminb.jsonapi.ResourceConverter;
 public class ResourceConverterFactory {
 
     /**
-     * Creates a new ResourceConverter instance configured with the supplied parameters.
+     * Creates a new ResourceConverter instance configured with the supplied parameters.  If the
+     * {@code globalResolver} is a {@link ResourceConverterGlobalResolver}, the returned converter submits each
+     * top-level document it reads to the resolver for prefetching.
      *
      * @param mapper the Jackson ObjectMapper the converter will use
      * @param scanner scanner used to detect the classes that represent JSON-API types
      * @param globalResolver the resolver used to resolve JSON-API relationships
      * @return the JSON API resource converter
+     * @see PrefetchingResourceConverter
      */
     public ResourceConverter newConverter(final ObjectMapper mapper, final ModelClassScanner scanner,
                                           final RelationshipResolver globalResolver) {
-        final ResourceConverter converter = new ResourceConverter(mapper,
-                scanner.getDetectedClasses().toArray(new Class[]{}));
+        final Class<?>[] classes = scanner.getDetectedClasses().toArray(new Class[]{});
+        if (globalResolver instanceof ResourceConverterGlobalResolver) {
+            return new PrefetchingResourceConverter(mapper, (ResourceConverterGlobalResolver) globalResolver,
+                    classes);
+        }
+
+        final ResourceConverter converter = new ResourceConverter(mapper, classes);
         converter.setGlobalResolver(globalResolver);
         return converter;
     }
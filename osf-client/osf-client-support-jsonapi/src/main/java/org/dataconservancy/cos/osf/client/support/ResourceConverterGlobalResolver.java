@@ -15,24 +15,88 @@
  */
 package org.dataconservancy.cos.osf.client.support;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.RelType;
 import com.github.jasminb.jsonapi.RelationshipResolver;
+import com.github.jasminb.jsonapi.ResolutionStrategy;
+import com.github.jasminb.jsonapi.annotations.Relationship;
+import com.github.jasminb.jsonapi.annotations.Type;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Default {@code RelationshipResolver} used by the JSON-API Converter to retrieve the contents of JSON-API
  * relationships.
+ * <p>
+ * When constructed with a {@link ModelClassScanner}, the resolver will prefetch relationships concurrently: each
+ * document retrieved by the resolver is examined for relationships that the JSON-API Converter will resolve (that is,
+ * relationships annotated {@code resolve = true} with the {@code OBJECT} resolution strategy), and those
+ * relationships are retrieved in the background, up to {@code maxConcurrency} at a time.  When the converter asks for
+ * a relationship that has been prefetched, the prefetched document is returned instead of issuing a new request.
+ * Documents retrieved by other means (e.g. by Retrofit) may be submitted to {@link #prefetch(byte[])}; converters
+ * produced by the {@link ResourceConverterFactory} do so for every document they read.
+ * </p>
+ * <p>
+ * Prefetched documents that are never asked for are not held indefinitely: a document is discarded once it has gone
+ * unclaimed for longer than the {@link #setPrefetchExpiry(long) expiry}, and when the number of prefetched documents
+ * reaches {@link #setMaxPrefetched(int) its limit}, the oldest is discarded to make room for the newest.
+ * </p>
  *
  * @author Elliot Metsger (emetsger@jhu.edu)
  */
 public class ResourceConverterGlobalResolver implements RelationshipResolver {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceConverterGlobalResolver.class);
+
+    /**
+     * The default maximum number of prefetched documents that may be held by the resolver awaiting consumption.
+     */
+    public static final int DEFAULT_MAX_PREFETCHED = 256;
+
+    /**
+     * The default period, in milliseconds, a prefetched document is held awaiting consumption.
+     */
+    public static final long DEFAULT_PREFETCH_EXPIRY_MS = 60 * 1000;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Prefetched documents keyed by url, in the order they were prefetched (and therefore the order they expire).
+     * Guarded by itself.
+     */
+    private final LinkedHashMap<String, Prefetch> prefetched = new LinkedHashMap<>();
+
     private OkHttpClient httpClient;
 
+    private Map<String, Set<String>> resolvableRelationships = Collections.emptyMap();
+
+    private ExecutorService executor;
+
+    private int maxPrefetched = DEFAULT_MAX_PREFETCHED;
+
+    private long prefetchExpiryMs = DEFAULT_PREFETCH_EXPIRY_MS;
+
     /**
-     * Constructs a new resolver using the supplied {@code httpClient} to retrieve relationship urls.
+     * Constructs a new resolver using the supplied {@code httpClient} to retrieve relationship urls.  Relationships
+     * are retrieved one at a time, when requested by the JSON-API Converter.
      *
      * @param httpClient the configured http client
      */
@@ -40,9 +104,217 @@ public class ResourceConverterGlobalResolver implements RelationshipResolver {
         this.httpClient = httpClient;
     }
 
+    /**
+     * Constructs a new resolver using the supplied {@code httpClient} to retrieve relationship urls.  Relationships of
+     * retrieved documents are prefetched in the background using at most {@code maxConcurrency} simultaneous
+     * requests.  The classes found by the {@code scanner} determine which relationships are prefetched.
+     *
+     * @param httpClient the configured http client
+     * @param scanner scanner used to detect the classes that represent JSON-API types
+     * @param maxConcurrency the maximum number of relationships retrieved simultaneously
+     * @throws IllegalArgumentException if {@code scanner} is null or {@code maxConcurrency} is less than one
+     */
+    public ResourceConverterGlobalResolver(final OkHttpClient httpClient, final ModelClassScanner scanner,
+                                           final int maxConcurrency) {
+        if (scanner == null) {
+            throw new IllegalArgumentException("ModelClassScanner must not be null.");
+        }
+
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be a positive integer.");
+        }
+
+        this.httpClient = httpClient;
+        this.resolvableRelationships = resolvableRelationships(scanner);
+
+        this.executor = Executors.newFixedThreadPool(maxConcurrency,
+                new DaemonThreadFactory("jsonapi-relationship-prefetch"));
+    }
+
+    /**
+     * The maximum number of prefetched documents that may be held by the resolver awaiting consumption.  Once this
+     * limit is reached, the oldest prefetched document is discarded each time a relationship is prefetched.
+     *
+     * @return the maximum number of outstanding prefetched documents
+     */
+    public int getMaxPrefetched() {
+        return maxPrefetched;
+    }
+
+    /**
+     * The maximum number of prefetched documents that may be held by the resolver awaiting consumption.  A value of
+     * {@code 0} disables prefetching.
+     *
+     * @param maxPrefetched the maximum number of outstanding prefetched documents
+     * @throws IllegalArgumentException if {@code maxPrefetched} is negative
+     */
+    public void setMaxPrefetched(final int maxPrefetched) {
+        if (maxPrefetched < 0) {
+            throw new IllegalArgumentException("Maximum prefetched documents must not be negative.");
+        }
+        this.maxPrefetched = maxPrefetched;
+    }
+
+    /**
+     * The period, in milliseconds, a prefetched document is held awaiting consumption before it is discarded.
+     *
+     * @return the prefetch expiry in milliseconds
+     */
+    public long getPrefetchExpiry() {
+        return prefetchExpiryMs;
+    }
+
+    /**
+     * The period, in milliseconds, a prefetched document is held awaiting consumption before it is discarded.
+     *
+     * @param prefetchExpiryMs the prefetch expiry in milliseconds
+     * @throws IllegalArgumentException if {@code prefetchExpiryMs} is less than one
+     */
+    public void setPrefetchExpiry(final long prefetchExpiryMs) {
+        if (prefetchExpiryMs < 1) {
+            throw new IllegalArgumentException("Prefetch expiry must be a positive integer.");
+        }
+        this.prefetchExpiryMs = prefetchExpiryMs;
+    }
+
+    /**
+     * The number of prefetched documents currently held by the resolver awaiting consumption.
+     *
+     * @return the number of outstanding prefetched documents
+     */
+    public int getPrefetchedCount() {
+        synchronized (prefetched) {
+            expire(System.nanoTime());
+            return prefetched.size();
+        }
+    }
+
     @Override
     public byte[] resolve(final String relationshipURL) {
-        final com.squareup.okhttp.Call req = httpClient.newCall(new Request.Builder().url(relationshipURL).build());
+        byte[] document = null;
+        final CompletableFuture<byte[]> pending;
+        synchronized (prefetched) {
+            expire(System.nanoTime());
+            final Prefetch prefetch = prefetched.remove(relationshipURL);
+            pending = (prefetch == null) ? null : prefetch.document;
+        }
+
+        if (pending != null) {
+            try {
+                document = pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while resolving '" + relationshipURL + "'", e);
+            } catch (ExecutionException e) {
+                // Retry the request on the calling thread, so failures surface just as they would without prefetching
+                LOG.debug("Prefetch of '{}' failed, retrying: {}", relationshipURL, e.getCause().getMessage());
+            }
+        }
+
+        if (document == null) {
+            document = fetch(relationshipURL);
+        }
+
+        prefetch(document);
+        return document;
+    }
+
+    /**
+     * Examines the supplied JSON-API document for relationships that will be resolved by the JSON-API Converter, and
+     * begins retrieving them in the background.  This method does nothing if the resolver was not configured to
+     * prefetch relationships.
+     *
+     * @param document a JSON-API document
+     */
+    public void prefetch(final byte[] document) {
+        if (executor == null || document == null || maxPrefetched == 0) {
+            return;
+        }
+
+        final JsonNode data;
+        try {
+            data = mapper.readTree(document).path("data");
+        } catch (IOException e) {
+            // Not our problem; the JSON-API Converter will report the malformed document
+            LOG.debug("Unable to parse document for prefetching: {}", e.getMessage());
+            return;
+        }
+
+        if (data.isArray()) {
+            data.forEach(this::prefetchRelationships);
+        } else {
+            prefetchRelationships(data);
+        }
+    }
+
+    /**
+     * Begins retrieving the resolvable relationships of a single JSON-API resource object.
+     *
+     * @param resource the JSON-API resource object
+     */
+    private void prefetchRelationships(final JsonNode resource) {
+        final Set<String> names = resolvableRelationships.get(resource.path("type").asText());
+        if (names == null) {
+            return;
+        }
+
+        final JsonNode relationships = resource.path("relationships");
+        names.forEach(name -> {
+            final JsonNode related = relationships.path(name).path("links").path("related");
+            final String href = related.isTextual() ? related.asText() : related.path("href").asText(null);
+            if (href == null) {
+                return;
+            }
+
+            synchronized (prefetched) {
+                final long now = System.nanoTime();
+                expire(now);
+                if (prefetched.containsKey(href)) {
+                    return;
+                }
+
+                // Make room by discarding the oldest documents, rather than refusing to prefetch the newest
+                final Iterator<Prefetch> oldest = prefetched.values().iterator();
+                while (prefetched.size() >= maxPrefetched && oldest.hasNext()) {
+                    oldest.next().discard();
+                    oldest.remove();
+                }
+
+                LOG.trace("Prefetching relationship '{}' from '{}'", name, href);
+                prefetched.put(href, new Prefetch(CompletableFuture.supplyAsync(() -> fetch(href), executor),
+                        now + TimeUnit.MILLISECONDS.toNanos(prefetchExpiryMs)));
+            }
+        });
+    }
+
+    /**
+     * Discards prefetched documents that have expired.  Must be called while holding the lock on
+     * {@code prefetched}.
+     *
+     * @param now the current value of {@link System#nanoTime()}
+     */
+    private void expire(final long now) {
+        // Documents expire in the order they were prefetched, so stop at the first one that has not expired
+        final Iterator<Prefetch> oldest = prefetched.values().iterator();
+        while (oldest.hasNext()) {
+            final Prefetch prefetch = oldest.next();
+            if (now - prefetch.expiresAt < 0) {
+                return;
+            }
+            prefetch.discard();
+            oldest.remove();
+        }
+    }
+
+    /**
+     * Retrieves the document at the supplied url.
+     *
+     * @param url the url
+     * @return the body of the response
+     * @throws RuntimeException if the document cannot be retrieved
+     */
+    private byte[] fetch(final String url) {
+        final com.squareup.okhttp.Call req = httpClient.newCall(new Request.Builder().url(url).build());
         try {
             return req.execute().body().bytes();
         } catch (IOException e) {
@@ -50,4 +322,55 @@ public class ResourceConverterGlobalResolver implements RelationshipResolver {
         }
     }
 
+    /**
+     * Answers the names of the relationships that will be resolved by the JSON-API Converter, keyed by JSON-API type.
+     *
+     * @param scanner scanner used to detect the classes that represent JSON-API types
+     * @return relationship names keyed by JSON-API type
+     */
+    private static Map<String, Set<String>> resolvableRelationships(final ModelClassScanner scanner) {
+        final Map<String, Set<String>> result = new HashMap<>();
+        scanner.getDetectedClasses().forEach(clazz -> {
+            final Type type = clazz.getAnnotation(Type.class);
+            if (type == null) {
+                return;
+            }
+
+            final Set<String> names = result.computeIfAbsent(type.value(), t -> new HashSet<>());
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    final Relationship rel = field.getAnnotation(Relationship.class);
+                    if (rel != null && rel.resolve() && rel.relType() == RelType.RELATED &&
+                            rel.strategy() == ResolutionStrategy.OBJECT) {
+                        names.add(rel.value());
+                    }
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * A document being, or having been, prefetched, and the time it expires.
+     */
+    private static class Prefetch {
+
+        private final CompletableFuture<byte[]> document;
+
+        private final long expiresAt;
+
+        private Prefetch(final CompletableFuture<byte[]> document, final long expiresAt) {
+            this.document = document;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Abandons the prefetch: the document is not retrieved if its retrieval has not yet begun.
+         */
+        private void discard() {
+            document.cancel(false);
+        }
+    }
+
 }
@@ -17,6 +17,8 @@ package org.dataconservancy.cos.osf.client.support;
 
 import com.squareup.okhttp.Interceptor;
 import com.squareup.okhttp.OkHttpClient;
+import org.dataconservancy.cos.osf.client.config.OsfClientConfiguration;
+import org.dataconservancy.cos.osf.client.config.TransportProfile;
 
 import java.util.Collections;
 import java.util.List;
@@ -77,4 +79,25 @@ public class BeanAccessibleOkHttpClient extends OkHttpClient {
     public void setConnectTimeout(final int timeoutMs) {
         setConnectTimeout(timeoutMs, MILLISECONDS);
     }
+
+    /**
+     * Gives the client its own connection pool and dispatcher, and sets its timeouts, according to the supplied
+     * profile.
+     *
+     * @param profile the transport profile
+     * @see TransportProfiles#configure(OkHttpClient, TransportProfile)
+     */
+    public void setTransportProfile(final TransportProfile profile) {
+        TransportProfiles.configure(this, profile);
+    }
+
+    /**
+     * Installs the on-disk HTTP cache described by the supplied configuration, if it specifies a cache directory.
+     *
+     * @param configuration the OSF client configuration
+     * @see HttpCaches#configure(OkHttpClient, OsfClientConfiguration)
+     */
+    public void setHttpCacheConfiguration(final OsfClientConfiguration configuration) {
+        HttpCaches.configure(this, configuration);
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.squareup.okhttp.Cache;
+import com.squareup.okhttp.OkHttpClient;
+import org.dataconservancy.cos.osf.client.config.OsfClientConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Installs the on-disk HTTP cache described by an {@link OsfClientConfiguration} on an {@code OkHttpClient}.
+ * <p>
+ * The OkHttp {@code Cache} stores responses according to their HTTP caching headers.  A stored response carrying an
+ * {@code ETag} or {@code Last-Modified} validator is revalidated with a conditional request ({@code If-None-Match} or
+ * {@code If-Modified-Since}) before it is re-used; if the server answers {@code 304 Not Modified}, the stored body is
+ * answered, and is not downloaded again.  Callers see the revalidated response as a {@code 200}.
+ * </p>
+ * <p>
+ * The cache sits beneath application interceptors such as the {@link ResponseCacheInterceptor}, which continues to
+ * answer repeated requests from memory without contacting the server at all.
+ * </p>
+ * <p>
+ * An OkHttp {@code Cache} owns the journal of its directory, and two caches open on the same directory corrupt it.
+ * Clients configured with the same cache directory therefore share a single {@code Cache}, which is opened by the
+ * first client configured with that directory, at the size configured for that client.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public final class HttpCaches {
+
+    /**
+     * Caches that have been installed on a client, keyed by their canonical directory
+     */
+    private static final ConcurrentMap<File, Cache> CACHES = new ConcurrentHashMap<>();
+
+    private HttpCaches() {
+
+    }
+
+    /**
+     * Installs an on-disk HTTP cache on {@code client}, using the {@link OsfClientConfiguration#getCacheDirectory()
+     * directory} and {@link OsfClientConfiguration#getCacheSize() size} of the configuration.  If the configuration
+     * does not specify a cache directory, the client is not modified.  If a cache has already been installed on a
+     * client for the same directory, that cache is installed on {@code client} as well.
+     *
+     * @param client the client to configure
+     * @param configuration the OSF client configuration
+     * @param <T> the type of client
+     * @return the configured client
+     * @throws IllegalArgumentException if {@code client} or {@code configuration} is {@code null}
+     * @throws RuntimeException if the canonical path of the cache directory cannot be determined
+     */
+    public static <T extends OkHttpClient> T configure(final T client, final OsfClientConfiguration configuration) {
+        if (client == null) {
+            throw new IllegalArgumentException("OkHttpClient must not be null.");
+        }
+
+        if (configuration == null) {
+            throw new IllegalArgumentException("OsfClientConfiguration must not be null.");
+        }
+
+        if (configuration.getCacheDirectory() != null) {
+            final File directory = new File(configuration.getCacheDirectory());
+            final File canonicalDirectory;
+            try {
+                canonicalDirectory = directory.getCanonicalFile();
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to resolve cache directory " + directory + ": " + e.getMessage(), e);
+            }
+
+            client.setCache(CACHES.computeIfAbsent(canonicalDirectory,
+                    dir -> new Cache(directory, configuration.getCacheSize())));
+        }
+
+        return client;
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.squareup.okhttp.Headers;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the bodies of successful {@code GET} responses containing JSON, keyed by request URL.  Subsequent requests for
+ * the same URL are answered from memory until the cached entry expires, without contacting the server.  The cache is
+ * bounded by the number of entries (least-recently used entries are evicted first) and by the age of each entry.
+ * <p>
+ * Because the cache is an interceptor, it is shared by every component that uses the same {@code OkHttpClient}: the
+ * JSON-API relationship resolver, the paging of collections, and the Retrofit {@code OsfService}.  Binary content is
+ * never cached.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class ResponseCacheInterceptor implements Interceptor {
+
+    /**
+     * The default maximum number of cached responses.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * The default time a cached response is considered fresh, in milliseconds.
+     */
+    public static final long DEFAULT_TTL_MS = 5 * 60 * 1000;
+
+    private final int maxEntries;
+
+    private final long ttlMs;
+
+    private final Map<String, CachedResponse> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs a cache with {@link #DEFAULT_MAX_ENTRIES} entries and a time-to-live of {@link #DEFAULT_TTL_MS}.
+     */
+    public ResponseCacheInterceptor() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MS);
+    }
+
+    /**
+     * Constructs a cache holding at most {@code maxEntries} responses, each of which is considered fresh for
+     * {@code ttlMs} milliseconds.
+     *
+     * @param maxEntries the maximum number of cached responses, must be positive
+     * @param ttlMs the time a cached response is considered fresh in milliseconds, must be positive
+     */
+    public ResponseCacheInterceptor(final int maxEntries, final long ttlMs) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum entries must be a positive integer.");
+        }
+
+        if (ttlMs < 1) {
+            throw new IllegalArgumentException("Time-to-live must be a positive integer.");
+        }
+
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.cache = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedResponse> eldest) {
+                return size() > ResponseCacheInterceptor.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        final Request req = chain.request();
+
+        if (!"GET".equals(req.method())) {
+            return chain.proceed(req);
+        }
+
+        final String key = req.urlString();
+        final CachedResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached != null && cached.isExpired()) {
+                cache.remove(key);
+            }
+        }
+
+        if (cached != null && !cached.isExpired()) {
+            hits.incrementAndGet();
+            return cached.toResponse(req);
+        }
+
+        misses.incrementAndGet();
+        final Response res = chain.proceed(req);
+
+        if (!isCacheable(res)) {
+            return res;
+        }
+
+        final MediaType contentType = res.body().contentType();
+        final byte[] body = res.body().bytes();
+        final CachedResponse toCache = new CachedResponse(res.protocol(), res.code(), res.message(), res.headers(),
+                contentType, body, System.currentTimeMillis() + ttlMs);
+        synchronized (cache) {
+            cache.put(key, toCache);
+        }
+
+        return res.newBuilder().body(ResponseBody.create(contentType, body)).build();
+    }
+
+    /**
+     * The number of requests answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * The number of {@code GET} requests that could not be answered from the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * The number of responses currently held by the cache, including any that have expired but not been evicted.
+     *
+     * @return the number of cached responses
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all responses from the cache.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Only successful responses with a JSON body are cached.
+     *
+     * @param res the response
+     * @return true if the response may be cached
+     */
+    private static boolean isCacheable(final Response res) {
+        if (res.code() != 200 || res.body() == null) {
+            return false;
+        }
+
+        final MediaType contentType = res.body().contentType();
+        return contentType != null && contentType.subtype().contains("json");
+    }
+
+    /**
+     * A response held in the cache.
+     */
+    private static class CachedResponse {
+
+        private final Protocol protocol;
+
+        private final int code;
+
+        private final String message;
+
+        private final Headers headers;
+
+        private final MediaType contentType;
+
+        private final byte[] body;
+
+        private final long expires;
+
+        private CachedResponse(final Protocol protocol, final int code, final String message, final Headers headers,
+                               final MediaType contentType, final byte[] body, final long expires) {
+            this.protocol = protocol;
+            this.code = code;
+            this.message = message;
+            this.headers = headers;
+            this.contentType = contentType;
+            this.body = body;
+            this.expires = expires;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expires;
+        }
+
+        private Response toResponse(final Request req) {
+            return new Response.Builder()
+                    .request(req)
+                    .protocol(protocol)
+                    .code(code)
+                    .message(message)
+                    .headers(headers)
+                    .body(ResponseBody.create(contentType, body))
+                    .build();
+        }
+    }
+
+}
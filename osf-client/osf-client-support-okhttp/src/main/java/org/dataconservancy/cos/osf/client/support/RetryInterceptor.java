@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries requests that fail because the server is throttling or temporarily unavailable, or because of an I/O error,
+ * waiting between attempts so that clients slow down rather than fail.
+ * <p>
+ * A request is retried, at most {@code maxRetries} times, when:
+ * </p>
+ * <ul>
+ *     <li>the response is {@code 429 Too Many Requests}; the server has not processed the request, so any request
+ *         may be retried</li>
+ *     <li>the response is {@code 502}, {@code 503}, or {@code 504}, or an {@code IOException} is thrown, and the
+ *         request method is idempotent ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT}, {@code DELETE},
+ *         {@code TRACE})</li>
+ * </ul>
+ * <p>
+ * If the response carries a {@code Retry-After} header (in seconds, or as an HTTP date), the interceptor waits as
+ * long as the server asks, up to {@code maxDelayMs}.  Otherwise it waits for a random period between zero and an
+ * exponentially increasing ceiling ({@code baseDelayMs * 2^attempt}, capped at {@code maxDelayMs}), so that
+ * concurrent clients do not retry in lock-step.
+ * </p>
+ * <p>
+ * Retries are limited by a budget shared by every request passing through the interceptor: each request that is not
+ * a retry earns {@code budgetRatio} of a retry, and each retry spends one.  The budget holds at most
+ * {@code budgetReserve} retries, and starts full.  When the budget is exhausted, failures are answered (or thrown)
+ * without being retried, which keeps a server that is failing outright from being flooded with retries.
+ * </p>
+ * <p>
+ * Because retries are issued by calling {@code Chain.proceed(Request)} more than once, this must be installed as an
+ * application interceptor.  This class is thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class RetryInterceptor implements Interceptor {
+
+    /**
+     * The default maximum number of times a request is retried.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+
+    /**
+     * The default ceiling of the wait before the first retry, in milliseconds.
+     */
+    public static final long DEFAULT_BASE_DELAY_MS = 500;
+
+    /**
+     * The default maximum wait before a retry, in milliseconds.
+     */
+    public static final long DEFAULT_MAX_DELAY_MS = 60 * 1000;
+
+    /**
+     * The default fraction of a retry earned by each request.
+     */
+    public static final double DEFAULT_BUDGET_RATIO = 0.2;
+
+    /**
+     * The default maximum number of retries held by the budget.
+     */
+    public static final int DEFAULT_BUDGET_RESERVE = 20;
+
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(
+            Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE"));
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final int maxRetries;
+
+    private final long baseDelayMs;
+
+    private final long maxDelayMs;
+
+    private final double budgetRatio;
+
+    private final int budgetReserve;
+
+    /**
+     * The number of retries available, guarded by {@code this}
+     */
+    private double budget;
+
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * Constructs an interceptor with the default retry limit, delays, and budget.
+     */
+    public RetryInterceptor() {
+        this(DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS);
+    }
+
+    /**
+     * Constructs an interceptor with the default budget.
+     *
+     * @param maxRetries the maximum number of times a request is retried, must be greater than -1
+     * @param baseDelayMs the ceiling of the wait before the first retry in milliseconds, must be positive
+     * @param maxDelayMs the maximum wait before a retry in milliseconds, must not be less than {@code baseDelayMs}
+     */
+    public RetryInterceptor(final int maxRetries, final long baseDelayMs, final long maxDelayMs) {
+        this(maxRetries, baseDelayMs, maxDelayMs, DEFAULT_BUDGET_RATIO, DEFAULT_BUDGET_RESERVE);
+    }
+
+    /**
+     * Constructs an interceptor.
+     *
+     * @param maxRetries the maximum number of times a request is retried, must be greater than -1
+     * @param baseDelayMs the ceiling of the wait before the first retry in milliseconds, must be positive
+     * @param maxDelayMs the maximum wait before a retry in milliseconds, must not be less than {@code baseDelayMs}
+     * @param budgetRatio the fraction of a retry earned by each request, must be greater than or equal to 0
+     * @param budgetReserve the maximum number of retries held by the budget, must be greater than -1
+     */
+    public RetryInterceptor(final int maxRetries, final long baseDelayMs, final long maxDelayMs,
+                            final double budgetRatio, final int budgetReserve) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Maximum retries must be a positive integer.");
+        }
+
+        if (baseDelayMs < 1) {
+            throw new IllegalArgumentException("Base delay must be a positive integer.");
+        }
+
+        if (maxDelayMs < baseDelayMs) {
+            throw new IllegalArgumentException("Maximum delay must not be less than the base delay.");
+        }
+
+        if (budgetRatio < 0) {
+            throw new IllegalArgumentException("Budget ratio must not be negative.");
+        }
+
+        if (budgetReserve < 0) {
+            throw new IllegalArgumentException("Budget reserve must be a positive integer.");
+        }
+
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.budgetRatio = budgetRatio;
+        this.budgetReserve = budgetReserve;
+        this.budget = budgetReserve;
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        final Request req = chain.request();
+        final boolean idempotent = IDEMPOTENT_METHODS.contains(req.method());
+
+        deposit();
+
+        for (int attempt = 0; ; attempt++) {
+            final Response res;
+            try {
+                res = chain.proceed(req);
+            } catch (IOException e) {
+                if (!idempotent || attempt >= maxRetries || !withdraw()) {
+                    throw e;
+                }
+                sleep(backoff(attempt));
+                continue;
+            }
+
+            if (!isRetryable(res.code(), idempotent) || attempt >= maxRetries || !withdraw()) {
+                return res;
+            }
+
+            final long delay = delay(res, attempt);
+            if (res.body() != null) {
+                res.body().close();
+            }
+            sleep(delay);
+        }
+    }
+
+    /**
+     * The number of times a request has been retried by this interceptor.
+     *
+     * @return the number of retries
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * Waits for the supplied period.  Package-private so that tests may avoid waiting.
+     *
+     * @param delayMs the period to wait, in milliseconds
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    void sleep(final long delayMs) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry a request");
+        }
+    }
+
+    /**
+     * A random period between zero and {@code baseDelayMs * 2^attempt}, capped at {@code maxDelayMs}.
+     *
+     * @param attempt the number of attempts that have failed, less one
+     * @return the period to wait before the next attempt, in milliseconds
+     */
+    long backoff(final int attempt) {
+        final long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * The period requested by the {@code Retry-After} header of the response, capped at {@code maxDelayMs}, or a
+     * {@link #backoff(int) backoff} if there is no usable header.
+     */
+    private long delay(final Response res, final int attempt) {
+        final String retryAfter = res.header("Retry-After");
+        if (retryAfter == null) {
+            return backoff(attempt);
+        }
+
+        long delay;
+        try {
+            delay = Long.parseLong(retryAfter.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            try {
+                delay = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant().toEpochMilli() - System.currentTimeMillis();
+            } catch (DateTimeParseException dtpe) {
+                return backoff(attempt);
+            }
+        }
+
+        return Math.min(maxDelayMs, Math.max(0, delay));
+    }
+
+    private static boolean isRetryable(final int code, final boolean idempotent) {
+        if (code == TOO_MANY_REQUESTS) {
+            return true;
+        }
+
+        return idempotent && (code == 502 || code == 503 || code == 504);
+    }
+
+    private synchronized void deposit() {
+        budget = Math.min(budgetReserve, budget + budgetRatio);
+    }
+
+    private synchronized boolean withdraw() {
+        if (budget < 1) {
+            return false;
+        }
+
+        budget--;
+        retries.incrementAndGet();
+        return true;
+    }
+
+}
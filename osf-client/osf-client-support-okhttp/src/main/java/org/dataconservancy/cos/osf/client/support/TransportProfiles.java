@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.Dispatcher;
+import com.squareup.okhttp.OkHttpClient;
+import org.dataconservancy.cos.osf.client.config.TransportProfile;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Applies a {@link TransportProfile} to an {@code OkHttpClient}.
+ * <p>
+ * The client is given its own {@code ConnectionPool} and {@code Dispatcher}, sized according to the profile, so that
+ * clients configured with different profiles do not compete for connections or request slots.  By default every
+ * {@code OkHttpClient} shares a single, process-wide connection pool.
+ * </p>
+ * <p>
+ * The request limits of the dispatcher apply only to calls that are {@code enqueue()}d.  Calls that are
+ * {@code execute()}d, which includes metadata requests, relationship resolution, paging, and binary content downloads,
+ * bypass the dispatcher, and are limited only by the threads that execute them.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public final class TransportProfiles {
+
+    private TransportProfiles() {
+
+    }
+
+    /**
+     * Configures the connection pool, dispatcher, and timeouts of {@code client} according to {@code profile}.  Null
+     * timeouts of the profile leave the timeouts of the client unchanged.  The request limits of the profile are
+     * applied to the dispatcher, and so only limit {@code enqueue()}d calls.
+     *
+     * @param client the client to configure
+     * @param profile the transport profile
+     * @param <T> the type of client
+     * @return the configured client
+     * @throws IllegalArgumentException if {@code client} or {@code profile} is {@code null}
+     */
+    public static <T extends OkHttpClient> T configure(final T client, final TransportProfile profile) {
+        if (client == null) {
+            throw new IllegalArgumentException("OkHttpClient must not be null.");
+        }
+
+        if (profile == null) {
+            throw new IllegalArgumentException("TransportProfile must not be null.");
+        }
+
+        client.setConnectionPool(new ConnectionPool(profile.getMax_idle_connections(), profile.getKeep_alive_ms()));
+
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(profile.getMax_requests());
+        dispatcher.setMaxRequestsPerHost(profile.getMax_requests_per_host());
+        client.setDispatcher(dispatcher);
+
+        if (profile.getConnect_timeout_ms() != null) {
+            client.setConnectTimeout(profile.getConnect_timeout_ms(), MILLISECONDS);
+        }
+        if (profile.getRead_timeout_ms() != null) {
+            client.setReadTimeout(profile.getRead_timeout_ms(), MILLISECONDS);
+        }
+        if (profile.getWrite_timeout_ms() != null) {
+            client.setWriteTimeout(profile.getWrite_timeout_ms(), MILLISECONDS);
+        }
+
+        return client;
+    }
+
+}
@@ -18,15 +18,24 @@
 
 package org.dataconservancy.cos.osf.client.support;
 
+import com.squareup.okhttp.ConnectionPool;
 import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Response;
+import org.dataconservancy.cos.osf.client.config.OsfClientConfiguration;
+import org.dataconservancy.cos.osf.client.config.TransportProfile;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 
 import static junit.framework.TestCase.assertNotSame;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 /**
@@ -34,6 +43,9 @@ import static org.junit.Assert.assertSame;
  */
 public class BeanAccessibleOkHttpClientTest {
 
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     @Test
     public void testSetInterceptorsClearsExistingInterceptors() throws Exception {
         final BeanAccessibleOkHttpClient underTest = new BeanAccessibleOkHttpClient();
@@ -54,6 +66,71 @@ public class BeanAccessibleOkHttpClientTest {
         assertSame(subsequentInterceptor, underTest.getInterceptors().get(0));
     }
 
+    @Test
+    public void testSetTransportProfile() throws Exception {
+        final BeanAccessibleOkHttpClient underTest = new BeanAccessibleOkHttpClient();
+        final TransportProfile profile = new TransportProfile();
+        profile.setMax_requests(16);
+        profile.setMax_requests_per_host(4);
+        profile.setConnect_timeout_ms(1000);
+        profile.setRead_timeout_ms(2000);
+
+        underTest.setTransportProfile(profile);
+
+        // The client has its own connection pool, rather than the default, process-wide pool
+        assertNotSame(ConnectionPool.getDefault(), underTest.getConnectionPool());
+        assertEquals(16, underTest.getDispatcher().getMaxRequests());
+        assertEquals(4, underTest.getDispatcher().getMaxRequestsPerHost());
+        assertEquals(1000, underTest.getConnectTimeout());
+        assertEquals(2000, underTest.getReadTimeout());
+
+        // Timeouts not specified by the profile are left unchanged
+        assertEquals(new OkHttpClient().getWriteTimeout(), underTest.getWriteTimeout());
+    }
+
+    @Test
+    public void testSetHttpCacheConfiguration() throws Exception {
+        final BeanAccessibleOkHttpClient underTest = new BeanAccessibleOkHttpClient();
+        final OsfClientConfiguration config = new OsfClientConfiguration();
+
+        // No cache directory, no cache
+        underTest.setHttpCacheConfiguration(config);
+        assertNull(underTest.getCache());
+
+        final File cacheDir = tmpFolder.newFolder();
+        config.setCacheDirectory(cacheDir.getAbsolutePath());
+        config.setCacheSize(1024);
+        underTest.setHttpCacheConfiguration(config);
+
+        assertNotNull(underTest.getCache());
+        assertEquals(cacheDir, underTest.getCache().getDirectory());
+        assertEquals(1024, underTest.getCache().getMaxSize());
+    }
+
+    @Test
+    public void testClientsShareCacheOfSameDirectory() throws Exception {
+        final File cacheDir = tmpFolder.newFolder();
+        final OsfClientConfiguration config = new OsfClientConfiguration();
+        config.setCacheDirectory(cacheDir.getAbsolutePath());
+        config.setCacheSize(1024);
+
+        // The same directory, by a different path
+        final OsfClientConfiguration otherConfig = new OsfClientConfiguration();
+        otherConfig.setCacheDirectory(new File(cacheDir, "..").getAbsolutePath() + "/" + cacheDir.getName());
+        otherConfig.setCacheSize(2048);
+
+        final BeanAccessibleOkHttpClient client = new BeanAccessibleOkHttpClient();
+        client.setHttpCacheConfiguration(config);
+        final OkHttpClient otherClient = HttpCaches.configure(new OkHttpClient(), otherConfig);
+
+        assertSame(client.getCache(), otherClient.getCache());
+        assertEquals(1024, otherClient.getCache().getMaxSize());
+
+        // A different directory gets its own cache
+        config.setCacheDirectory(tmpFolder.newFolder().getAbsolutePath());
+        assertNotSame(client.getCache(), HttpCaches.configure(new OkHttpClient(), config).getCache());
+    }
+
     private class MockInterceptor implements Interceptor {
 
         @Override
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Insures proper functioning of the {@link ResponseCacheInterceptor}.
+ *
+ * @author agent (agent@local)
+ */
+public class ResponseCacheInterceptorTest {
+
+    private static final MediaType JSON = MediaType.parse("application/vnd.api+json");
+
+    private static final MediaType BINARY = MediaType.parse("application/octet-stream");
+
+    /**
+     * Insures a JSON response is answered from the cache on a subsequent request for the same URL.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCacheHit() throws Exception {
+        final Request req = new Request.Builder().url("http://example.org/nodes/").build();
+        final Interceptor.Chain chain = chain(req, 200, JSON, "{}");
+        final ResponseCacheInterceptor underTest = new ResponseCacheInterceptor();
+
+        assertEquals("{}", underTest.intercept(chain).body().string());
+        assertEquals("{}", underTest.intercept(chain).body().string());
+
+        verify(chain, times(1)).proceed(any(Request.class));
+        assertEquals(1, underTest.getHitCount());
+        assertEquals(1, underTest.getMissCount());
+        assertEquals(1, underTest.size());
+    }
+
+    /**
+     * Insures binary content and unsuccessful responses are not cached.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNotCacheable() throws Exception {
+        final Request req = new Request.Builder().url("http://example.org/file").build();
+        final ResponseCacheInterceptor underTest = new ResponseCacheInterceptor();
+
+        final Interceptor.Chain binary = chain(req, 200, BINARY, "bytes");
+        underTest.intercept(binary);
+        underTest.intercept(binary);
+        verify(binary, times(2)).proceed(any(Request.class));
+
+        final Interceptor.Chain notFound = chain(req, 404, JSON, "{}");
+        underTest.intercept(notFound);
+        underTest.intercept(notFound);
+        verify(notFound, times(2)).proceed(any(Request.class));
+
+        assertEquals(0, underTest.getHitCount());
+        assertEquals(0, underTest.size());
+    }
+
+    /**
+     * Insures expired entries are not used, and that the least-recently used entry is evicted when the cache is full.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExpirationAndEviction() throws Exception {
+        final Request req = new Request.Builder().url("http://example.org/nodes/").build();
+        final Interceptor.Chain chain = chain(req, 200, JSON, "{}");
+
+        final ResponseCacheInterceptor expiring = new ResponseCacheInterceptor(10, 1);
+        expiring.intercept(chain);
+        Thread.sleep(5);
+        expiring.intercept(chain);
+        verify(chain, times(2)).proceed(any(Request.class));
+        assertEquals(0, expiring.getHitCount());
+
+        final ResponseCacheInterceptor small = new ResponseCacheInterceptor(1, ResponseCacheInterceptor.DEFAULT_TTL_MS);
+        small.intercept(chain);
+        small.intercept(chain(new Request.Builder().url("http://example.org/users/").build(), 200, JSON, "{}"));
+        assertEquals(1, small.size());
+        small.intercept(chain);
+        assertEquals(0, small.getHitCount());
+    }
+
+    /**
+     * Insures arguments are validated.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxEntries() throws Exception {
+        new ResponseCacheInterceptor(0, 1);
+    }
+
+    private static Interceptor.Chain chain(final Request req, final int code, final MediaType type,
+                                           final String body) throws Exception {
+        final Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(req);
+        when(chain.proceed(any(Request.class))).then(invocation -> new Response.Builder()
+                .request(req)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .body(ResponseBody.create(type, body))
+                .build());
+        return chain;
+    }
+
+}
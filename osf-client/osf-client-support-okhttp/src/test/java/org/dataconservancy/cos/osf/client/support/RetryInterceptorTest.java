@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Insures proper functioning of the {@link RetryInterceptor}.
+ *
+ * @author agent (agent@local)
+ */
+public class RetryInterceptorTest {
+
+    private static final MediaType JSON = MediaType.parse("application/vnd.api+json");
+
+    private final Request get = new Request.Builder().url("http://example.org/nodes/").build();
+
+    /**
+     * Insures a throttled request is retried after the period requested by the {@code Retry-After} header.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRetryAfter() throws Exception {
+        final Interceptor.Chain chain = chain(get, response(get, 429, "2"), response(get, 200, null));
+        final RecordingRetryInterceptor underTest = new RecordingRetryInterceptor(3, 10, 60 * 1000);
+
+        assertEquals(200, underTest.intercept(chain).code());
+        verify(chain, times(2)).proceed(any(Request.class));
+        assertEquals(1, underTest.getRetryCount());
+        assertEquals(1, underTest.delays.size());
+        assertEquals(2000L, (long) underTest.delays.get(0));
+    }
+
+    /**
+     * Insures retries stop after the maximum number of retries, and that the last response is answered.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMaxRetries() throws Exception {
+        final Interceptor.Chain chain = chain(get, response(get, 503, null));
+        final RecordingRetryInterceptor underTest = new RecordingRetryInterceptor(3, 10, 100);
+
+        assertEquals(503, underTest.intercept(chain).code());
+        verify(chain, times(4)).proceed(any(Request.class));
+
+        // Backoff is jittered, and never exceeds its exponentially increasing ceiling
+        assertEquals(3, underTest.delays.size());
+        for (int i = 0; i < underTest.delays.size(); i++) {
+            assertTrue(underTest.delays.get(i) <= Math.min(100, 10 << i));
+        }
+    }
+
+    /**
+     * Insures that I/O errors are retried for idempotent requests, but not for other requests.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testIdempotency() throws Exception {
+        final Interceptor.Chain getChain = mock(Interceptor.Chain.class);
+        when(getChain.request()).thenReturn(get);
+        when(getChain.proceed(any(Request.class)))
+                .thenThrow(new IOException("Connection reset"))
+                .thenReturn(response(get, 200, null));
+
+        assertEquals(200, new RecordingRetryInterceptor(3, 10, 100).intercept(getChain).code());
+
+        final Request post = new Request.Builder().url("http://example.org/nodes/")
+                .post(RequestBody.create(JSON, "{}")).build();
+        final Interceptor.Chain postChain = mock(Interceptor.Chain.class);
+        when(postChain.request()).thenReturn(post);
+        when(postChain.proceed(any(Request.class))).thenThrow(new IOException("Connection reset"));
+
+        try {
+            new RecordingRetryInterceptor(3, 10, 100).intercept(postChain);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+        verify(postChain, times(1)).proceed(any(Request.class));
+
+        // A 503 is not retried for a POST, but a 429 is
+        assertEquals(503, new RecordingRetryInterceptor(3, 10, 100)
+                .intercept(chain(post, response(post, 503, null))).code());
+        assertEquals(200, new RecordingRetryInterceptor(3, 10, 100)
+                .intercept(chain(post, response(post, 429, null), response(post, 200, null))).code());
+    }
+
+    /**
+     * Insures that retries stop when the retry budget is exhausted.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRetryBudget() throws Exception {
+        final RecordingRetryInterceptor underTest = new RecordingRetryInterceptor(5, 10, 100, 0, 2);
+        final Interceptor.Chain chain = chain(get, response(get, 503, null));
+
+        assertEquals(503, underTest.intercept(chain).code());
+        assertEquals(2, underTest.getRetryCount());
+
+        // No budget remains
+        assertEquals(503, underTest.intercept(chain).code());
+        assertEquals(2, underTest.getRetryCount());
+        verify(chain, times(4)).proceed(any(Request.class));
+    }
+
+    /**
+     * Insures arguments are validated.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxDelay() throws Exception {
+        new RetryInterceptor(3, 1000, 10);
+    }
+
+    private static Response response(final Request req, final int code, final String retryAfter) {
+        final Response.Builder builder = new Response.Builder()
+                .request(req)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .body(ResponseBody.create(JSON, "{}"));
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+        return builder.build();
+    }
+
+    private static Interceptor.Chain chain(final Request req, final Response first,
+                                           final Response... rest) throws Exception {
+        final Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(req);
+        when(chain.proceed(any(Request.class))).thenReturn(first, rest);
+        return chain;
+    }
+
+    /**
+     * Records the delays before each retry, rather than waiting.
+     */
+    private static class RecordingRetryInterceptor extends RetryInterceptor {
+
+        private final List<Long> delays = new ArrayList<>();
+
+        RecordingRetryInterceptor(final int maxRetries, final long baseDelayMs, final long maxDelayMs) {
+            super(maxRetries, baseDelayMs, maxDelayMs);
+        }
+
+        RecordingRetryInterceptor(final int maxRetries, final long baseDelayMs, final long maxDelayMs,
+                                  final double budgetRatio, final int budgetReserve) {
+            super(maxRetries, baseDelayMs, maxDelayMs, budgetRatio, budgetReserve);
+        }
+
+        @Override
+        void sleep(final long delayMs) {
+            delays.add(delayMs);
+        }
+    }
+
+}
@@ -26,6 +26,7 @@ import org.dataconservancy.cos.osf.client.support.DateTimeTransform;
 import org.dataconservancy.cos.osf.client.support.DownloadLinkTransform;
 import org.dataconservancy.cos.osf.client.support.JodaSupport;
 import org.dataconservancy.cos.osf.client.support.ProviderIdTransform;
+import org.dataconservancy.cos.osf.client.support.Sha256HashTransform;
 import org.dataconservancy.cos.rdf.annotations.IndividualUri;
 import org.dataconservancy.cos.rdf.annotations.OwlIndividual;
 import org.dataconservancy.cos.rdf.annotations.OwlProperty;
@@ -127,6 +128,8 @@ public class File {
 
     private List<String> tags;
 
+    /**extra attributes of the file, including its checksums*/
+    @OwlProperty(value = OwlProperties.OSF_HAS_SHA256, transform = Sha256HashTransform.class)
     private Map<String, ?> extra;
 
     /**
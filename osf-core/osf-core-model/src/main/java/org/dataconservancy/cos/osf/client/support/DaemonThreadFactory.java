@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads named with a common prefix and a sequence number (e.g. {@code osf-content-download-1}), so
+ * that the pools used to issue HTTP requests in the background never keep the JVM alive, and their threads can be
+ * identified in thread dumps.
+ *
+ * @author agent (agent@local)
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Constructs a factory creating daemon threads named {@code <prefix>-<n>}.
+     *
+     * @param prefix the prefix of the thread names
+     * @throws IllegalArgumentException if {@code prefix} is {@code null} or empty
+     */
+    public DaemonThreadFactory(final String prefix) {
+        if (prefix == null || prefix.trim().length() == 0) {
+            throw new IllegalArgumentException("Thread name prefix must not be null or empty.");
+        }
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, prefix + "-" + count.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Extracts the SHA-256 checksum from the {@code hashes} map carried by the supplied map of extra file attributes.  If
+ * the checksum is not present, {@code null} is returned.
+ *
+ * @author agent (agent@local)
+ */
+public class Sha256HashTransform implements Function<Map<String, ?>, String> {
+
+    @Override
+    public String apply(final Map<String, ?> extra) {
+        final Object hashes = extra.get("hashes");
+        if (hashes instanceof Map) {
+            final Object sha256 = ((Map<?, ?>) hashes).get("sha256");
+            if (sha256 != null) {
+                return sha256.toString();
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.osf.client.support;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Insures proper functioning of the {@link DaemonThreadFactory}.
+ *
+ * @author agent (agent@local)
+ */
+public class DaemonThreadFactoryTest {
+
+    /**
+     * Insures threads are daemons, and are named with the prefix and a sequence number.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNewThread() throws Exception {
+        final DaemonThreadFactory underTest = new DaemonThreadFactory("test-pool");
+
+        final Thread first = underTest.newThread(() -> { });
+        final Thread second = underTest.newThread(() -> { });
+
+        assertTrue(first.isDaemon());
+        assertTrue(second.isDaemon());
+        assertEquals("test-pool-1", first.getName());
+        assertEquals("test-pool-2", second.getName());
+    }
+
+    /**
+     * Insures a prefix is required.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPrefix() throws Exception {
+        new DaemonThreadFactory(" ");
+    }
+
+}
@@ -15,21 +15,18 @@
  */
 package org.dataconservancy.cos.rdf.support;
 
+import org.apache.jena.graph.Node;
 import org.apache.jena.ontology.Individual;
 import org.dataconservancy.cos.rdf.annotations.AnonIndividual;
 import org.dataconservancy.cos.rdf.annotations.OwlIndividual;
 import org.dataconservancy.cos.rdf.annotations.OwlProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.annotation.AnnotationAttributes;
-import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -69,8 +66,18 @@ import java.util.stream.Stream;
  * <pre>
  * Jena OntModel &lt;-- OntologyManager &lt;-- Managed Graph &lt;-- AnnotationsProcessor
  *                                                                   /
- *                                       OwlAnnotationsProcessor &lt;--+
+ *                                                  ClassMapping &lt;--+
  * </pre>
+ * <p>
+ * The annotations of each Java class are read once, and compiled into a {@link ClassMapping} that is cached for the
+ * lifetime of the class.  Processing an object walks the compiled mapping of its class rather than reflecting over
+ * annotations.
+ * </p>
+ * <p>
+ * When constructed with a {@link StreamingGraph} instead of a {@code ManagedGraph}, triples are written to the
+ * underlying stream as the object graph is walked, and no OWL individuals are retained.  This allows very large object
+ * graphs to be mapped in memory proportional to the depth of the object graph rather than its size.
+ * </p>
  * <h3>Shortcomings</h3>
  * <ul>
  *   <li>I'm sure there are many</li>
@@ -83,10 +90,15 @@ public class AnnotationsProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(AnnotationsProcessor.class);
 
     /**
-     * Graph that stores the triples generated by this processor
+     * Graph that stores the triples generated by this processor, {@code null} if triples are streamed
      */
     private ManagedGraph graph;
 
+    /**
+     * Graph that streams the triples generated by this processor, {@code null} if triples are stored
+     */
+    private StreamingGraph streamingGraph;
+
     /**
      * Creates an {@code AnnotationsProcessor} that uses the underlying {@link ManagedGraph} to store generated
      * triples.
@@ -97,6 +109,15 @@ public class AnnotationsProcessor {
         this.graph = graph;
     }
 
+    /**
+     * Creates an {@code AnnotationsProcessor} that writes generated triples to the underlying {@link StreamingGraph}.
+     *
+     * @param streamingGraph the graph that streams generated triples
+     */
+    public AnnotationsProcessor(final StreamingGraph streamingGraph) {
+        this.streamingGraph = streamingGraph;
+    }
+
     /**
      * Accepts an object and processes class-level and field-level OWL annotations.  Recurses up the class hierarchy
      * to process class-level and field-level OWL annotations of super classes.  Fields that are {@code Collection} or
@@ -107,95 +128,82 @@ public class AnnotationsProcessor {
      * of individual ids to individuals will be returned.  Anonymous individuals will have an implementation-specific
      * form of id, identified individuals will have URIs as identifiers.
      * </p>
+     * <p>
+     * If this processor was constructed with a {@code StreamingGraph}, triples are written to the stream instead, and
+     * the returned map is empty.
+     * </p>
      *
      * @param toProcess the object to map to OWL RDF
      * @return a map of individual identifiers to individuals that were created by this invocation.
      */
     public Map<String, Individual> process(final Object toProcess) {
 
-        final Set<String> seen = new HashSet<>();
+        if (streamingGraph != null) {
+            process(toProcess, new StreamingSink(streamingGraph));
+            return Collections.emptyMap();
+        }
 
         final Map<String, Individual> createdIndividuals = new HashMap<>();
-        final AnnotatedElementPairMap<AnnotatedElementPair, AnnotationAttributes> annotations =
-                new AnnotatedElementPairMap<>();
-        OwlAnnotationProcessor.getAnnotationsForInstance(toProcess, annotations);
-
-        final OwlClasses owlClass = OwlAnnotationProcessor.getOwlClass(toProcess, annotations);
-        final String id = OwlAnnotationProcessor.getIndividualId(null, toProcess, annotations);
-
-        final Individual individual = graph.newIndividual(owlClass, id);
-        createdIndividuals.put(individual.getURI(), individual);
-        LOG.trace("Created individual with id {} for class {}", individual.getURI(), owlClass.fqname());
-        seen.add(toProcess.getClass().getName());
-        process(toProcess, individual, annotations, createdIndividuals, seen);
+        process(toProcess, new ManagedSink(graph, createdIndividuals));
         return createdIndividuals;
 
     }
 
+    private <S> void process(final Object toProcess, final Sink<S> sink) {
+        final ClassMapping mapping = ClassMapping.forClass(toProcess.getClass());
+
+        final OwlClasses owlClass = mapping.owlClass();
+        final Object id = mapping.individualId(null, toProcess);
+
+        final S individual = sink.newIndividual(owlClass, id);
+        LOG.trace("Created individual with id {} for class {}", sink.describe(individual), owlClass.fqname());
+        process(toProcess, individual, sink);
+    }
+
     /**
-     * Provides a recursive entry point to process objects.
+     * Provides a recursive entry point to process objects.  The fields of {@code toProcess} are mapped according to
+     * the {@link ClassMapping compiled mapping plan} for its class.
      *
      * @param toProcess the object to map to OWL RDF
      * @param enclosingIndividual the OWL individual that will be the subject of any triples added in this processing
      *                            step
-     * @param annotations all the annotations that appear in the Java object graph
      * @param createdIndividuals maintains a map of identifiers to OWL individuals that have been created thus far
      */
     void process(final Object toProcess, final Individual enclosingIndividual,
-                 final Map<AnnotatedElementPair, AnnotationAttributes> annotations,
-                 final Map<String, Individual> createdIndividuals, final Set<String> seen) {
-        if (seen.contains(toProcess.getClass().getName())) {
-            LOG.trace("Skipping seen class: {}", toProcess.getClass().getName());
+                 final Map<String, Individual> createdIndividuals) {
+        process(toProcess, enclosingIndividual, new ManagedSink(graph, createdIndividuals));
+    }
+
+    private <S> void process(final Object toProcess, final S enclosingIndividual, final Sink<S> sink) {
+        for (ClassMapping.PropertyMapping property : ClassMapping.forClass(toProcess.getClass()).properties()) {
+            process(enclosingIndividual, toProcess, property, sink);
         }
-        ReflectionUtils.doWithFields(toProcess.getClass(),
-                (field) -> process(enclosingIndividual, toProcess, field, annotations, createdIndividuals, seen),
-                (field) -> annotations.containsKey(AnnotatedElementPair.forPair(field, OwlProperty.class)));
     }
 
-    private void process(final Individual enclosingIndividual, final Object enclosingObject,
-                         final Field field, final Map<AnnotatedElementPair, AnnotationAttributes> annotations,
-                         final Map<String, Individual> createdIndividuals, final Set<String> seen) {
-        LOG.trace("  Processing field '{}' (a {}) for OWL {} {}",
-                field.getName(), field.getType(),
-                (enclosingIndividual.isAnon() ? "anonymous individual" : "individual"),
-                (enclosingIndividual.isAnon() ? enclosingIndividual.getId() : enclosingIndividual.getURI()));
-        // if the field is not annotated with @OwlProperty, then we have nothing to do.
-        // the caller should be responsible for this.
+    private <S> void process(final S enclosingIndividual, final Object enclosingObject,
+                             final ClassMapping.PropertyMapping property, final Sink<S> sink) {
+        final Field field = property.field();
+        LOG.trace("  Processing field '{}' (a {}) for OWL individual {}",
+                field.getName(), field.getType(), sink.describe(enclosingIndividual));
         // The OwlProperty that will be used to add the field to the enclosing object
-        final OwlProperties owlProperty = annotations
-                .get(AnnotatedElementPair.forPair(field, OwlProperty.class)).getEnum("value");
+        final OwlProperties owlProperty = property.property();
 
         final Object fieldValue;
 
-        try {
-            field.setAccessible(true);
-            if ((fieldValue = field.get(enclosingObject)) == null) {
-                LOG.trace("  Skipping processing of null value on field {} for OWL property {}",
-                        field.getName(), owlProperty.localname());
-                return;
-            }
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(
-                    String.format("Unable to access field %s (type %s, on class %s) for OWL property %s: %s",
-                            field.getName(), field.getType(), enclosingObject.getClass().getName(),
-                                owlProperty.fqname(), e.getMessage()), e);
+        if ((fieldValue = property.get(enclosingObject)) == null) {
+            LOG.trace("  Skipping processing of null value on field {} for OWL property {}",
+                    field.getName(), owlProperty.localname());
+            return;
         }
 
-        // The annotated element pairs that apply to the supplied field
-        final Set<AnnotatedElementPair> fieldAnnotationPairs = annotations.keySet().stream()
-                .filter((aep) -> aep.getAnnotatedElement().equals(field))
-                .collect(Collectors.toSet());
-
-
         // The objects of the OWL property.  If the field is a collection or an array type, there may be multiple
         // objects.
-        final Stream<?> objectsToProcess = OwlAnnotationProcessor.unwrap(field, fieldValue);
+        final Stream<?> objectsToProcess = property.unwrap(fieldValue);
 
         objectsToProcess.forEach(objectToProcess -> {
             final Object value;
 
-            if ((value = OwlAnnotationProcessor.transform(
-                    enclosingObject, field, objectToProcess, annotations)) == null) {
+            if ((value = property.transform(enclosingObject, objectToProcess)) == null) {
                 LOG.trace("  Result of transformation was null.  " +
                         "Skipping processing of transformed null value on field {} for OWL property {}",
                         field.getName(), owlProperty.localname());
@@ -203,57 +211,166 @@ public class AnnotationsProcessor {
             }
 
             if (!owlProperty.object()) {
-                LOG.trace("  Adding literal {} with value '{}' to {} {}",
-                        owlProperty.localname(), value,
-                        (enclosingIndividual.isAnon() ? "anonymous individual" : "individual"),
-                        (enclosingIndividual.isAnon() ? enclosingIndividual.getId() : enclosingIndividual.getURI()));
-                graph.addLiteral(enclosingIndividual, owlProperty.fqname(), value);
-            } else {
+                LOG.trace("  Adding literal {} with value '{}' to individual {}",
+                        owlProperty.localname(), value, sink.describe(enclosingIndividual));
+                sink.addLiteral(enclosingIndividual, owlProperty, value);
+                return;
+            }
+
+            final ClassMapping objectMapping = ClassMapping.forClass(objectToProcess.getClass());
+
+            if (property.anonClass() != null) {
                 // if anon individual, create the individual and recurse, processing the properties of the
                 // AnonIndividual class
-                if (fieldAnnotationPairs.contains(AnnotatedElementPair.forPair(field, AnonIndividual.class))) {
-                    final OwlClasses targetOwlClass = annotations.get(
-                            AnnotatedElementPair.forPair(field, AnonIndividual.class)).getEnum("value");
-                    final Individual anonIndividual = graph.newIndividual(targetOwlClass);
-                    graph.addAnonIndividual(enclosingIndividual, owlProperty.fqname(), anonIndividual);
-                    createdIndividuals.put(anonIndividual.getId().toString(), anonIndividual);
-                    LOG.trace("  Created anonymous individual with id {} for class {}",
-                            anonIndividual.getId(), targetOwlClass.fqname());
-                    final AnnotatedElementPairMap<AnnotatedElementPair, AnnotationAttributes> individualAnnotations =
-                            new AnnotatedElementPairMap<>();
-                    OwlAnnotationProcessor.getAnnotationsForInstance(objectToProcess, individualAnnotations);
-                    seen.add(objectToProcess.getClass().getName());
-                    process(objectToProcess, anonIndividual, individualAnnotations, createdIndividuals, seen);
-                } else if (annotations.containsKey(
-                        AnnotatedElementPair.forPair(objectToProcess.getClass(), OwlIndividual.class))) {
-                    // if identified individual, create the individual and recurse, processing the properties of the
-                    // OwlIndividual class
-                    final String id = OwlAnnotationProcessor.getIndividualId(
-                            enclosingObject, objectToProcess, annotations);
-                    final OwlClasses targetOwlClass = annotations.get(
-                            AnnotatedElementPair.forPair(
-                                    objectToProcess.getClass(), OwlIndividual.class)).getEnum("value");
-                    final Individual idIndividual = graph.newIndividual(targetOwlClass, id);
-                    graph.addIndividual(enclosingIndividual, owlProperty.fqname(), idIndividual.getURI());
-                    createdIndividuals.put(idIndividual.getURI(), idIndividual);
-                    LOG.trace("  Created individual with id {} for class {}",
-                            idIndividual.getURI(), targetOwlClass.fqname());
-                    final AnnotatedElementPairMap<AnnotatedElementPair, AnnotationAttributes> individualAnnotations =
-                            new AnnotatedElementPairMap<>();
-                    OwlAnnotationProcessor.getAnnotationsForInstance(objectToProcess, individualAnnotations);
-                    seen.add(objectToProcess.getClass().getName());
-                    process(objectToProcess, idIndividual, individualAnnotations, createdIndividuals, seen);
-                } else {
-                    // resource
-                    LOG.trace("  Adding resource {} with value {} to {} {}",
-                            owlProperty.localname(), Util.asResource(value.toString()),
-                            (enclosingIndividual.isAnon() ? "anonymous individual" : "individual"),
-                            (enclosingIndividual.isAnon() ?
-                                    enclosingIndividual.getId() : enclosingIndividual.getURI()));
-                    graph.addResource(enclosingIndividual, owlProperty.fqname(), Util.asResource(value.toString()));
-                }
+                final OwlClasses targetOwlClass = property.anonClass();
+                final S anonIndividual = sink.newIndividual(targetOwlClass);
+                sink.addAnonIndividual(enclosingIndividual, owlProperty, anonIndividual);
+                LOG.trace("  Created anonymous individual with id {} for class {}",
+                        sink.describe(anonIndividual), targetOwlClass.fqname());
+                process(objectToProcess, anonIndividual, sink);
+            } else if (objectMapping.isIndividual()) {
+                // if identified individual, create the individual and recurse, processing the properties of the
+                // OwlIndividual class
+                final Object id = objectMapping.individualId(enclosingObject, objectToProcess);
+                final OwlClasses targetOwlClass = objectMapping.owlClass();
+                final S idIndividual = sink.newIndividual(targetOwlClass, id);
+                sink.addIndividual(enclosingIndividual, owlProperty, idIndividual);
+                LOG.trace("  Created individual with id {} for class {}",
+                        sink.describe(idIndividual), targetOwlClass.fqname());
+                process(objectToProcess, idIndividual, sink);
+            } else {
+                // resource
+                LOG.trace("  Adding resource {} with value {} to individual {}",
+                        owlProperty.localname(), value, sink.describe(enclosingIndividual));
+                sink.addResource(enclosingIndividual, owlProperty, value.toString());
             }
         });
     }
 
+    /**
+     * Receives the individuals and triples generated by the processor.
+     *
+     * @param <S> the type of OWL individual created by the sink
+     */
+    private interface Sink<S> {
+
+        S newIndividual(OwlClasses owlClass);
+
+        S newIndividual(OwlClasses owlClass, Object individualId);
+
+        void addIndividual(S individual, OwlProperties property, S objectIndividual);
+
+        void addAnonIndividual(S individual, OwlProperties property, S anonIndividual);
+
+        void addLiteral(S individual, OwlProperties property, Object literal);
+
+        void addResource(S individual, OwlProperties property, String resource);
+
+        String describe(S individual);
+
+    }
+
+    /**
+     * Adds individuals and triples to a {@code ManagedGraph}, recording each created individual.
+     */
+    private static class ManagedSink implements Sink<Individual> {
+
+        private final ManagedGraph graph;
+
+        private final Map<String, Individual> createdIndividuals;
+
+        private ManagedSink(final ManagedGraph graph, final Map<String, Individual> createdIndividuals) {
+            this.graph = graph;
+            this.createdIndividuals = createdIndividuals;
+        }
+
+        @Override
+        public Individual newIndividual(final OwlClasses owlClass) {
+            final Individual individual = graph.newIndividual(owlClass);
+            createdIndividuals.put(individual.getId().toString(), individual);
+            return individual;
+        }
+
+        @Override
+        public Individual newIndividual(final OwlClasses owlClass, final Object individualId) {
+            final Individual individual = graph.newIndividual(owlClass, individualId);
+            createdIndividuals.put(individual.getURI(), individual);
+            return individual;
+        }
+
+        @Override
+        public void addIndividual(final Individual individual, final OwlProperties property,
+                                  final Individual objectIndividual) {
+            graph.addIndividual(individual, property.fqname(), objectIndividual.getURI());
+        }
+
+        @Override
+        public void addAnonIndividual(final Individual individual, final OwlProperties property,
+                                      final Individual anonIndividual) {
+            graph.addAnonIndividual(individual, property.fqname(), anonIndividual);
+        }
+
+        @Override
+        public void addLiteral(final Individual individual, final OwlProperties property, final Object literal) {
+            graph.addLiteral(individual, property.fqname(), literal);
+        }
+
+        @Override
+        public void addResource(final Individual individual, final OwlProperties property, final String resource) {
+            graph.addResource(individual, property.fqname(), Util.asResource(resource));
+        }
+
+        @Override
+        public String describe(final Individual individual) {
+            return individual.isAnon() ? individual.getId().toString() : individual.getURI();
+        }
+    }
+
+    /**
+     * Writes individuals and triples to a {@code StreamingGraph}.
+     */
+    private static class StreamingSink implements Sink<Node> {
+
+        private final StreamingGraph graph;
+
+        private StreamingSink(final StreamingGraph graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public Node newIndividual(final OwlClasses owlClass) {
+            return graph.newIndividual(owlClass);
+        }
+
+        @Override
+        public Node newIndividual(final OwlClasses owlClass, final Object individualId) {
+            return graph.newIndividual(owlClass, individualId);
+        }
+
+        @Override
+        public void addIndividual(final Node individual, final OwlProperties property, final Node objectIndividual) {
+            graph.addIndividual(individual, property, objectIndividual);
+        }
+
+        @Override
+        public void addAnonIndividual(final Node individual, final OwlProperties property, final Node anonIndividual) {
+            graph.addIndividual(individual, property, anonIndividual);
+        }
+
+        @Override
+        public void addLiteral(final Node individual, final OwlProperties property, final Object literal) {
+            graph.addLiteral(individual, property, literal);
+        }
+
+        @Override
+        public void addResource(final Node individual, final OwlProperties property, final String resource) {
+            graph.addResource(individual, property, resource);
+        }
+
+        @Override
+        public String describe(final Node individual) {
+            return individual.toString();
+        }
+    }
+
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.rdf.support;
+
+import org.dataconservancy.cos.rdf.annotations.AnonIndividual;
+import org.dataconservancy.cos.rdf.annotations.IndividualUri;
+import org.dataconservancy.cos.rdf.annotations.OwlIndividual;
+import org.dataconservancy.cos.rdf.annotations.OwlProperty;
+import org.dataconservancy.cos.rdf.annotations.TransformMode;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A compiled plan for mapping instances of a single Java class to OWL.  The OWL annotations present on a class and its
+ * fields never change, so they are read once per class, when the plan is created, and the plan is cached for the
+ * lifetime of the class.  Mapping an instance is then a matter of walking the plan's {@link #properties() properties};
+ * no reflective annotation lookups are performed.
+ * <p>
+ * A plan captures:
+ * </p>
+ * <ul>
+ *     <li>the OWL class of the Java class, if it is annotated {@link OwlIndividual}</li>
+ *     <li>the field annotated {@link IndividualUri}, and the instance of its transformation function</li>
+ *     <li>each field annotated {@link OwlProperty}, including those of super classes, with its OWL property,
+ *         the instance of its transformation function, and the OWL class of any {@link AnonIndividual}</li>
+ * </ul>
+ * <p>
+ * Plans are immutable and thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+final class ClassMapping {
+
+    /**
+     * Registry of compiled plans, keyed by class
+     */
+    private static final ClassValue<ClassMapping> MAPPINGS = new ClassValue<ClassMapping>() {
+        @Override
+        protected ClassMapping computeValue(final Class<?> type) {
+            return new ClassMapping(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    /**
+     * The OWL class of {@code type}, {@code null} if {@code type} is not annotated {@code OwlIndividual}
+     */
+    private final OwlClasses owlClass;
+
+    /**
+     * Fields of {@code type} annotated with {@code IndividualUri}; a valid OWL individual has exactly one
+     */
+    private final List<Field> individualUriFields;
+
+    /**
+     * The transformation function of the sole {@code IndividualUri} field, {@code null} if there isn't exactly one
+     */
+    private final BiFunction individualUriTransform;
+
+    private final List<PropertyMapping> properties;
+
+    private ClassMapping(final Class<?> type) {
+        this.type = type;
+
+        final OwlIndividual owlIndividual = type.getDeclaredAnnotation(OwlIndividual.class);
+        this.owlClass = owlIndividual != null ? owlIndividual.value() : null;
+
+        if (OwlAnnotationProcessor.ignored(type)) {
+            this.individualUriFields = Collections.emptyList();
+            this.individualUriTransform = null;
+            this.properties = Collections.emptyList();
+            return;
+        }
+
+        final List<Field> uriFields = new ArrayList<>();
+        final List<PropertyMapping> props = new ArrayList<>();
+
+        ReflectionUtils.doWithFields(type, field -> {
+            if (field.getDeclaredAnnotation(IndividualUri.class) != null) {
+                uriFields.add(field);
+            }
+
+            final OwlProperty owlProperty = field.getDeclaredAnnotation(OwlProperty.class);
+            if (owlProperty != null) {
+                props.add(new PropertyMapping(field, owlProperty, field.getDeclaredAnnotation(AnonIndividual.class)));
+            }
+        });
+
+        this.individualUriFields = Collections.unmodifiableList(uriFields);
+        this.individualUriTransform = uriFields.size() == 1 ?
+                OwlAnnotationProcessor.individualUriTransformer(
+                        uriFields.get(0).getDeclaredAnnotation(IndividualUri.class).transform()) : null;
+        this.properties = Collections.unmodifiableList(props);
+    }
+
+    /**
+     * Obtains the compiled mapping plan for the supplied class, compiling it if necessary.
+     *
+     * @param type the class
+     * @return the mapping plan for the class
+     */
+    static ClassMapping forClass(final Class<?> type) {
+        return MAPPINGS.get(type);
+    }
+
+    /**
+     * Answers whether or not the class is annotated {@code OwlIndividual}.
+     *
+     * @return true if instances of the class map to identified OWL individuals
+     */
+    boolean isIndividual() {
+        return owlClass != null;
+    }
+
+    /**
+     * The OWL class that the Java class maps to.
+     *
+     * @return the OWL class
+     * @throws IllegalArgumentException if the class is not annotated by {@code OwlIndividual}
+     */
+    OwlClasses owlClass() {
+        if (owlClass == null) {
+            throw new IllegalArgumentException(String.format("Could not find annotation %s on %s",
+                    OwlIndividual.class.getSimpleName(), type.getSimpleName()));
+        }
+
+        return owlClass;
+    }
+
+    /**
+     * The fields of the class (and its super classes) annotated with {@code OwlProperty}.
+     *
+     * @return the property mappings of the class
+     */
+    List<PropertyMapping> properties() {
+        return properties;
+    }
+
+    /**
+     * Obtains the transformed value of the field annotated with {@code IndividualUri} on the supplied
+     * {@code individual}.  Equivalent to {@link OwlAnnotationProcessor#getIndividualId(Object, Object, java.util.Map)}.
+     *
+     * @param outer the object that has a field containing the {@code individual} instance, may be {@code null}
+     * @param individual an instance of the class described by this plan
+     * @return the transformed value of the field annotated with {@code IndividualUri}
+     * @throws IllegalArgumentException if the class does not have exactly one field annotated with
+     * {@code IndividualUri}
+     */
+    @SuppressWarnings("unchecked")
+    Object individualId(final Object outer, final Object individual) {
+        if (individualUriFields.size() == 0) {
+            if (owlClass == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Annotation %s not found on %s.  Is %s an OwlIndividual?",
+                        IndividualUri.class.getSimpleName(), type.getSimpleName(), type.getSimpleName()));
+            }
+
+            throw new IllegalArgumentException(String.format("Missing required annotation %s on %s, an OwlIndividual.",
+                    IndividualUri.class.getSimpleName(), type.getSimpleName()));
+        }
+
+        if (individualUriFields.size() > 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Found %s fields (%s) on %s annotated with %s.  Only one field may be annotated with %s",
+                    individualUriFields.size(), individualUriFields.stream().map(Field::getName)
+                            .collect(Collectors.joining(", ")),
+                    type.getSimpleName(),
+                    IndividualUri.class.getSimpleName(),
+                    IndividualUri.class.getSimpleName()));
+        }
+
+        return individualUriTransform.apply(outer, individual);
+    }
+
+    /**
+     * A compiled plan for mapping a single field annotated with {@code OwlProperty}.
+     */
+    static final class PropertyMapping {
+
+        private final Field field;
+
+        private final FieldAccessor accessor;
+
+        private final OwlProperties property;
+
+        private final Function transform;
+
+        private final TransformMode mode;
+
+        private final OwlClasses anonClass;
+
+        private final boolean multiValued;
+
+        private PropertyMapping(final Field field, final OwlProperty owlProperty, final AnonIndividual anon) {
+            this.field = field;
+            this.accessor = new FieldAccessor(field);
+            this.property = owlProperty.value();
+            this.mode = owlProperty.mode();
+            this.transform = OwlAnnotationProcessor.transformer(owlProperty.transform(), mode);
+            this.anonClass = anon != null ? anon.value() : null;
+            this.multiValued = OwlAnnotationProcessor.isCollection(field.getType()) ||
+                    OwlAnnotationProcessor.isArray(field.getType());
+        }
+
+        /**
+         * The field being mapped.
+         *
+         * @return the field
+         */
+        Field field() {
+            return field;
+        }
+
+        /**
+         * The OWL property the field maps to.
+         *
+         * @return the OWL property
+         */
+        OwlProperties property() {
+            return property;
+        }
+
+        /**
+         * The OWL class of the anonymous individual the field value maps to.
+         *
+         * @return the OWL class of the anonymous individual, or {@code null} if the field is not annotated
+         *         {@code AnonIndividual}
+         */
+        OwlClasses anonClass() {
+            return anonClass;
+        }
+
+        /**
+         * Reads the value of the field from the supplied object.
+         *
+         * @param enclosingObject the object declaring the field
+         * @return the value of the field, may be {@code null}
+         * @throws RuntimeException if the field cannot be read
+         */
+        Object get(final Object enclosingObject) {
+            return accessor.get(enclosingObject);
+        }
+
+        /**
+         * Answers the values contained by the supplied field value: the elements of a {@code Collection} or array, or
+         * the value itself.
+         *
+         * @param fieldValue the value of the field
+         * @return a stream of values
+         */
+        Stream<?> unwrap(final Object fieldValue) {
+            if (!multiValued) {
+                return fieldValue == null ? Stream.empty() : Stream.of(fieldValue);
+            }
+
+            return OwlAnnotationProcessor.unwrap(field, fieldValue);
+        }
+
+        /**
+         * Applies the transformation function of the field.
+         *
+         * @param enclosingObject the object declaring the field
+         * @param value a value of the field, as returned by {@link #unwrap(Object)}
+         * @return the transformed value
+         */
+        @SuppressWarnings("unchecked")
+        Object transform(final Object enclosingObject, final Object value) {
+            return mode == TransformMode.FIELD ? transform.apply(value) : transform.apply(enclosingObject);
+        }
+    }
+
+}
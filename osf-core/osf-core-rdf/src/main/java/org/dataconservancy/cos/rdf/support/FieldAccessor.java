@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.rdf.support;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reads the value of a single field.  The field is made accessible once, when its accessor is created, so subsequent
+ * reads neither repeat the accessibility check performed by {@link ReflectionUtils#makeAccessible(Field)}, nor the
+ * access checks of {@link Field#get(Object)}.  Reads are delegated to the per-field accessor that the JDK generates
+ * and caches on the {@code Field} itself.
+ * <p>
+ * A {@code MethodHandle} getter is only faster than {@code Field#get(Object)} when the JIT can treat the handle as a
+ * constant, i.e. when it is held in a {@code static final} field.  Fields mapped to the OWL ontology are discovered at
+ * runtime, so their handles could only be held in instance fields or maps, where they are slower than reflection.
+ * </p>
+ * <p>
+ * Accessors are held by the {@link ClassMapping} of the class declaring their field, so a field is made accessible
+ * once per mapped class rather than once per read.  Accessors are immutable, and are thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+final class FieldAccessor {
+
+    private final Field field;
+
+    /**
+     * Constructs an accessor for the supplied field, making the field accessible.
+     *
+     * @param field the field
+     */
+    FieldAccessor(final Field field) {
+        ReflectionUtils.makeAccessible(field);
+        this.field = field;
+    }
+
+    /**
+     * Reads the value of the field from the supplied object.
+     *
+     * @param enclosingObject the object declaring the field, ignored if the field is static
+     * @return the value of the field, may be {@code null}
+     * @throws RuntimeException if the field cannot be read from {@code enclosingObject}
+     */
+    Object get(final Object enclosingObject) {
+        try {
+            return field.get(enclosingObject);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new RuntimeException(String.format("Unable to read field %s (type %s) on class %s: %s",
+                    field.getName(), field.getType(), field.getDeclaringClass().getName(), e.getMessage()), e);
+        }
+    }
+
+}
@@ -250,6 +250,25 @@ public class ManagedGraph {
         return ontMgr.getOntModel().listIndividuals().toSet();
     }
 
+    /**
+     * Copies the statements in this graph that are selected by {@code selector} into a new, plain (i.e. not
+     * inferencing) {@code Model}.  The statements are copied directly, without being serialized and parsed, so the
+     * returned model may be handed to consumers of the graph in place of a serialization.
+     *
+     * @param selector used to select the statements to be copied
+     * @return a new model containing the selected statements
+     */
+    public Model select(final Selector selector) {
+        final Model selected = ModelFactory.createDefaultModel();
+        selected.setNsPrefixes(Rdf.Ns.PREFIXES);
+        ontMgr.getOntModel().listStatements(selector).forEachRemaining(statement -> {
+            LOG.debug("Statement selected: {} {} {}",
+                    statement.getSubject(), statement.getPredicate(), statement.getObject());
+            selected.add(statement);
+        });
+        return selected;
+    }
+
     /**
      * Serialize the statements in this graph to the supplied output stream.
      *
@@ -259,14 +278,7 @@ public class ManagedGraph {
      */
     public void serialize(final OutputStream out, final RDFFormat format, final Selector selector) {
         if (selector != ALWAYS_TRUE_SELECTOR) {
-            final Model selected = ModelFactory.createDefaultModel();
-            selected.setNsPrefixes(Rdf.Ns.PREFIXES);
-            ontMgr.getOntModel().listStatements(selector).forEachRemaining(statement -> {
-                LOG.debug("Statement selected for Package serialization: {} {} {}",
-                        statement.getSubject(), statement.getPredicate(), statement.getObject());
-                selected.add(statement);
-            });
-            RDFDataMgr.write(out, selected, format);
+            RDFDataMgr.write(out, select(selector), format);
         } else {
             RDFDataMgr.write(out, ontMgr.getOntModel(), format);
         }
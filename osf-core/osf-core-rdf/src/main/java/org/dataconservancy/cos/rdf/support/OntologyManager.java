@@ -15,17 +15,35 @@
  */
 package org.dataconservancy.cos.rdf.support;
 
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.ontology.DatatypeProperty;
 import org.apache.jena.ontology.Individual;
 import org.apache.jena.ontology.ObjectProperty;
 import org.apache.jena.ontology.OntClass;
 import org.apache.jena.ontology.OntModel;
+import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.ontology.OntProperty;
+import org.apache.jena.ontology.impl.DatatypePropertyImpl;
+import org.apache.jena.ontology.impl.ObjectPropertyImpl;
+import org.apache.jena.ontology.impl.OntClassImpl;
+import org.apache.jena.ontology.impl.OntModelImpl;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.reasoner.ReasonerRegistry;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides a facade for creating OWL Individuals and Properties over a Jena {@code OntModel}.
@@ -37,6 +55,12 @@ import java.net.URL;
  * to keep the ontology as expressed on disk aligned with the classes and properties used in the code.
  * </p>
  * <p>
+ * The OWL classes and properties enumerated by {@link OwlClasses} and {@link OwlProperties} are resolved against the
+ * ontology once, when it is parsed, and lookups of those terms are answered from a table rather than by querying the
+ * {@code OntModel}.  Enumerated terms that are missing from the ontology are logged when it is parsed, and rejected
+ * when they are looked up.
+ * </p>
+ * <p>
  * The {@code org.dataconservancy.cos.osf.packaging.PackageGraph} uses this class to create OWL individuals and
  * properties.
  * </p>
@@ -55,13 +79,20 @@ import java.net.URL;
  *   <li>No explicit support for sub classes of {@code ObjectProperty} (TransitiveProperty, SymmetricProperty, etc.)
  *   </li>
  *   <li>No support for AnnotationProperty or FunctionalProperty or their sub classes</li>
- *   <li>Unsure (untested) if {@code owl:imports} are followed in the supplied ontology resource</li>
+ *   <li>{@code owl:imports} are not followed in the supplied ontology resource</li>
  * </ul>
  *
  * @author Elliot Metsger (emetsger@jhu.edu)
  */
 public class OntologyManager {
 
+    private static final Logger LOG = LoggerFactory.getLogger(OntologyManager.class);
+
+    /**
+     * Ontologies that have been parsed, keyed by their classpath resource, base URI, and serialization
+     */
+    private static final ConcurrentHashMap<String, ParsedOntology> ONTOLOGIES = new ConcurrentHashMap<>();
+
     /**
      * The class path resource containing the OSF ontology.  This is the ontology that populates the backing OntModel
      * when the no-arg constructor is called.
@@ -90,6 +121,21 @@ public class OntologyManager {
      */
     private OntModel readOnlyOntModel;
 
+    /**
+     * The {@link OwlClasses} present in the ontology, keyed by fully qualified name
+     */
+    private final Map<String, OntClass> classes;
+
+    /**
+     * The {@link OwlProperties} present in the ontology as datatype properties, keyed by fully qualified name
+     */
+    private final Map<String, DatatypeProperty> datatypeProperties;
+
+    /**
+     * The {@link OwlProperties} present in the ontology as object properties, keyed by fully qualified name
+     */
+    private final Map<String, ObjectProperty> objectProperties;
+
     /**
      * Constructs a facade around the OSF ontology.
      */
@@ -101,15 +147,19 @@ public class OntologyManager {
      * Constructs a facade around the supplied ontology.  Resolves the classpath resource {@code ontologyResource} and
      * loads it into a Jena {@code OntModel}.  Resources added to this ontology will use the {@code baseUri} to resolve
      * relative URIs.
+     * <p>
+     * The ontology is parsed once per JVM, and shared, read-only, by every {@code OntologyManager} constructed with the
+     * same arguments, along with an RDFS reasoner to which the ontology is bound as the schema.  Each manager reasons
+     * over its own graph of individuals using the shared reasoner, so constructing a manager neither re-parses the
+     * ontology nor re-derives its RDFS closure.  The bound reasoner is safe to share, so managers may be used by
+     * different threads at the same time.
+     * </p>
      *
      * @param ontologyResource the classpath resource which resolves to an OWL ontology
      * @param baseUri the baseUri used to resolve relative URIs
      * @param serializationFormat the serialization format of the OWL ontology
      */
     public OntologyManager(final String ontologyResource, final String baseUri, final String serializationFormat) {
-        ontModel = ModelFactory.createOntologyModel();
-        readOnlyOntModel = ModelFactory.createOntologyModel();
-
         final URL ontologyUrl = this.getClass().getResource(ontologyResource);
 
         if (ontologyUrl == null) {
@@ -117,14 +167,31 @@ public class OntologyManager {
                     String.format("Could not resolve ontology classpath resource %s", ontologyResource));
         }
 
-        try {
-            ontModel.read(ontologyUrl.openStream(), baseUri, serializationFormat);
-            readOnlyOntModel.read(ontologyUrl.openStream(), baseUri, serializationFormat);
-        } catch (IOException e) {
-            throw new RuntimeException(
-                    String.format(
-                            "Unable to read ontology resource from %s: %s", ontologyUrl.toString(), e.getMessage()), e);
-        }
+        final ParsedOntology ontology = ONTOLOGIES.computeIfAbsent(
+                String.join(" ", ontologyUrl.toString(), baseUri, serializationFormat),
+                key -> new ParsedOntology(ontologyUrl, baseUri, serializationFormat));
+
+        // Individuals are added to the manager's own model; the ontology is supplied by the bound reasoner
+        final OntModelImpl ontModel = new OntModelImpl(ontology.spec, ModelFactory.createDefaultModel());
+        this.ontModel = ontModel;
+        readOnlyOntModel = ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM,
+                ModelFactory.createModelForGraph(ontology.graph));
+
+        // The terms are known to be present in the ontology, so they are bound to this manager's model without
+        // querying it: a query of the inference model costs far more than constructing the manager
+        final Map<String, OntClass> classes = new HashMap<>();
+        ontology.classes.forEach(fqname ->
+                classes.put(fqname, new OntClassImpl(NodeFactory.createURI(fqname), ontModel)));
+        final Map<String, DatatypeProperty> datatypeProperties = new HashMap<>();
+        ontology.datatypeProperties.forEach(fqname ->
+                datatypeProperties.put(fqname, new DatatypePropertyImpl(NodeFactory.createURI(fqname), ontModel)));
+        final Map<String, ObjectProperty> objectProperties = new HashMap<>();
+        ontology.objectProperties.forEach(fqname ->
+                objectProperties.put(fqname, new ObjectPropertyImpl(NodeFactory.createURI(fqname), ontModel)));
+
+        this.classes = classes;
+        this.datatypeProperties = datatypeProperties;
+        this.objectProperties = objectProperties;
     }
 
     /**
@@ -200,7 +267,10 @@ public class OntologyManager {
      * @throws IllegalArgumentException if the class cannot be found in the underlying {@code OntModel}
      */
     public OntClass owlClass(final String ns, final String className) {
-        final OntClass result = ontModel.getOntClass(ns + className);
+        OntClass result = classes.get(ns + className);
+        if (result == null) {
+            result = ontModel.getOntClass(ns + className);
+        }
         if (result == null) {
             throw new IllegalArgumentException(String.format("Could not find OWL class %s", ns + className));
         }
@@ -305,12 +375,18 @@ public class OntologyManager {
         OntProperty result = null;
         boolean isObject = false;
         if (DatatypeProperty.class.isAssignableFrom(propertyClass)) {
-            result = ontModel.getDatatypeProperty(uri);
+            result = datatypeProperties.get(uri);
+            if (result == null) {
+                result = ontModel.getDatatypeProperty(uri);
+            }
         }
 
         if (ObjectProperty.class.isAssignableFrom(propertyClass)) {
             isObject = true;
-            result = ontModel.getObjectProperty(uri);
+            result = objectProperties.get(uri);
+            if (result == null) {
+                result = ontModel.getObjectProperty(uri);
+            }
         }
 
         if (result == null) {
@@ -323,4 +399,78 @@ public class OntologyManager {
         return (T) result;
     }
 
+    /**
+     * An ontology parsed from a classpath resource, shared by all {@code OntologyManager}s using that resource.  The
+     * RDFS closure of the ontology is computed once, when the ontology is parsed, and materialized into a plain
+     * read-only graph, which is safe to read from multiple threads.  The closure is bound as the schema of the RDFS
+     * reasoner of the {@code OntModelSpec} used by the managers, so it is not re-derived by each manager.  The names
+     * of the {@link OwlClasses} and {@link OwlProperties} present in the ontology are recorded at the same time.
+     */
+    private static final class ParsedOntology {
+
+        private final Graph graph;
+
+        private final OntModelSpec spec;
+
+        private final Set<String> classes;
+
+        private final Set<String> datatypeProperties;
+
+        private final Set<String> objectProperties;
+
+        private ParsedOntology(final URL ontologyUrl, final String baseUri, final String serializationFormat) {
+            final Model parsed = ModelFactory.createDefaultModel();
+
+            try (InputStream in = ontologyUrl.openStream()) {
+                parsed.read(in, baseUri, serializationFormat);
+            } catch (IOException e) {
+                throw new RuntimeException(
+                        String.format(
+                                "Unable to read ontology resource from %s: %s", ontologyUrl.toString(), e.getMessage()),
+                        e);
+            }
+
+            // The inference model is not thread-safe, so it is discarded once its closure has been copied
+            final Model closure = ModelFactory.createDefaultModel()
+                    .add(ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM_RDFS_INF, parsed));
+            this.graph = new GraphReadOnly(closure.getGraph());
+
+            // Managers reason over their individuals with an RDFS reasoner which has pre-processed the ontology
+            this.spec = new OntModelSpec(OntModelSpec.OWL_MEM);
+            this.spec.setReasoner(ReasonerRegistry.getRDFSReasoner().bindSchema(graph));
+
+            final OntModel ontModel = ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM,
+                    ModelFactory.createModelForGraph(graph));
+
+            final Set<String> classes = new HashSet<>();
+            for (OwlClasses owlClass : OwlClasses.values()) {
+                if (ontModel.getOntClass(owlClass.fqname()) != null) {
+                    classes.add(owlClass.fqname());
+                } else {
+                    LOG.debug("OWL class {} is not present in ontology {}", owlClass.fqname(), ontologyUrl);
+                }
+            }
+
+            final Set<String> datatypeProperties = new HashSet<>();
+            final Set<String> objectProperties = new HashSet<>();
+            for (OwlProperties property : OwlProperties.values()) {
+                final OntProperty result = property.object() ?
+                        ontModel.getObjectProperty(property.fqname()) :
+                        ontModel.getDatatypeProperty(property.fqname());
+                if (result == null) {
+                    LOG.debug("OWL {} property {} is not present in ontology {}",
+                            property.object() ? "object" : "datatype", property.fqname(), ontologyUrl);
+                } else if (property.object()) {
+                    objectProperties.add(property.fqname());
+                } else {
+                    datatypeProperties.add(property.fqname());
+                }
+            }
+
+            this.classes = Collections.unmodifiableSet(classes);
+            this.datatypeProperties = Collections.unmodifiableSet(datatypeProperties);
+            this.objectProperties = Collections.unmodifiableSet(objectProperties);
+        }
+    }
+
 }
@@ -50,21 +50,21 @@ public class OwlAnnotationProcessor {
 
     /**
      * Cache of field transformers for the {@code OwlProperty#transform()} attribute.  Populated by
-     * {@link #populateTransformers(Map)}
+     * {@link #getAnnotations(AnnotatedElement, Map)}
      */
     private static final ConcurrentHashMap<Class<? extends Function>, Function> FIELD_TRANSFORMERS =
             new ConcurrentHashMap<>();
 
     /**
      * Cache of class transformers for the {@code OwlProperty#transform()} attribute.  Populated by
-     * {@link #populateTransformers(Map)}
+     * {@link #getAnnotations(AnnotatedElement, Map)}
      */
     private static final ConcurrentHashMap<Class<? extends Function>, Function> CLASS_TRANSFORMERS =
             new ConcurrentHashMap<>();
 
     /**
      * Cache of field transformers for the {@code IndividualUri#transform()} attribute.  Populated by
-     * {@link #populateTransformers(Map)}
+     * {@link #getAnnotations(AnnotatedElement, Map)}
      */
     private static final ConcurrentHashMap<Class<? extends BiFunction>, BiFunction> INDIVIDUAL_URI_TRANSFORMS =
             new ConcurrentHashMap<>();
@@ -104,33 +104,46 @@ public class OwlAnnotationProcessor {
     }
 
     /**
-     * Creates single instances of the transformer {@code Function}s found on each annotated element, and caches them
-     * in static member fields according to their {@code TransformMode}.
+     * Obtains the single, cached, instance of the supplied {@code OwlProperty#transform()} function class for the
+     * supplied {@code TransformMode}, instantiating it if necessary.
      *
-     * @param annotations a map annotated elements and their attributes
+     * @param functionClass the transformation function class
+     * @param mode the transformation mode
+     * @return the cached instance of the transformation function
      */
-    private static void populateTransformers(final Map<AnnotatedElementPair, AnnotationAttributes> annotations) {
-        annotations.keySet().stream()
-                .filter(pair -> pair.getAnnotationClass() == OwlProperty.class)
-                .forEach(pair -> {
-                    final AnnotationAttributes attributes = annotations.get(pair);
-                    final Class<? extends Function> transformFunction = attributes.getClass(OwlProperty.TRANSFORM);
-
-                    final TransformMode mode = attributes.getEnum(OwlProperty.TRANSFORM_MODE);
-                    if (mode == TransformMode.FIELD) {
-                        FIELD_TRANSFORMERS.putIfAbsent(transformFunction, newFunction(transformFunction));
-                    } else {
-                        CLASS_TRANSFORMERS.putIfAbsent(transformFunction, newFunction(transformFunction));
-                    }
-                });
-
-        annotations.keySet().stream()
-                .filter(pair -> pair.getAnnotationClass() == IndividualUri.class)
-                .forEach(pair -> {
-                    final AnnotationAttributes attributes = annotations.get(pair);
-                    final Class<? extends BiFunction> transformFunction = attributes.getClass(IndividualUri.TRANSFORM);
-                    INDIVIDUAL_URI_TRANSFORMS.putIfAbsent(transformFunction, newBiFunction(transformFunction));
-                });
+    static Function transformer(final Class<? extends Function> functionClass, final TransformMode mode) {
+        if (mode == TransformMode.FIELD) {
+            return FIELD_TRANSFORMERS.computeIfAbsent(functionClass, OwlAnnotationProcessor::newFunction);
+        }
+
+        return CLASS_TRANSFORMERS.computeIfAbsent(functionClass, OwlAnnotationProcessor::newFunction);
+    }
+
+    /**
+     * Obtains the single, cached, instance of the supplied {@code IndividualUri#transform()} function class,
+     * instantiating it if necessary.
+     *
+     * @param functionClass the transformation function class
+     * @return the cached instance of the transformation function
+     */
+    static BiFunction individualUriTransformer(final Class<? extends BiFunction> functionClass) {
+        return INDIVIDUAL_URI_TRANSFORMS.computeIfAbsent(functionClass, OwlAnnotationProcessor::newBiFunction);
+    }
+
+    /**
+     * Creates a single instance of the transformer {@code Function} found on the supplied annotation, if any, and
+     * caches it in static member fields according to its {@code TransformMode}.
+     *
+     * @param annotationClass the class of the annotation
+     * @param attributes the attributes of the annotation
+     */
+    private static void populateTransformer(final Class<? extends Annotation> annotationClass,
+                                            final AnnotationAttributes attributes) {
+        if (annotationClass == OwlProperty.class) {
+            transformer(attributes.getClass(OwlProperty.TRANSFORM), attributes.getEnum(OwlProperty.TRANSFORM_MODE));
+        } else if (annotationClass == IndividualUri.class) {
+            individualUriTransformer(attributes.getClass(IndividualUri.TRANSFORM));
+        }
     }
 
     /**
@@ -225,7 +238,7 @@ public class OwlAnnotationProcessor {
         // endless loop.
         ReflectionUtils.doWithFields(object.getClass(), f -> {
             ReflectionUtils.makeAccessible(f);
-                    final Object value = f.get(object);
+            final Object value = f.get(object);
 
             if (value != null) {
                 // Unwrap fields that are Collection or Array types.
@@ -246,9 +259,6 @@ public class OwlAnnotationProcessor {
         },
         f -> (isCollection(f.getType()) ||
                 isArray(f.getType())) && (!object.getClass().isEnum() && !isPrimitiveArray(f.getType())));
-
-        // Instantiate and cache any transformation functions that are present on the annotated elements
-        populateTransformers(result);
     }
 
     /**
@@ -264,7 +274,11 @@ public class OwlAnnotationProcessor {
         Stream.of(annotations).forEach(annotation -> {
                     final AnnotatedElementPair aep =
                             new AnnotatedElementPair(annotatedElement, annotation.annotationType());
-                    result.put(aep, AnnotationUtils.getAnnotationAttributes(annotatedElement, annotation));
+                    final AnnotationAttributes attributes =
+                            AnnotationUtils.getAnnotationAttributes(annotatedElement, annotation);
+                    result.put(aep, attributes);
+                    // Instantiate and cache any transformation function present on the annotation
+                    populateTransformer(annotation.annotationType(), attributes);
                     LOG.debug("    - Created AnnotatedElementPair (AnnotatedElement: '{}', AnnotationClass: '{}')",
                             aep.getAnnotatedElement(), aep.getAnnotationClass());
                 }
@@ -179,6 +179,8 @@ public enum OwlProperties {
 
     OSF_HAS_SCHOLAR ("hasScholar"),
 
+    OSF_HAS_SHA256 ("hasSha256"),
+
     OSF_HAS_SIZE ("hasSize"),
 
     OSF_HAS_SUFFIX ("hasSuffix"),
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.cos.rdf.support;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.vocabulary.RDF;
+
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes OWL individuals and properties to a Jena {@code StreamRDF} as they are created, rather than accumulating them
+ * in an {@code OntModel}.
+ * <p>
+ * The {@link AnnotationsProcessor} uses this class in place of a {@link ManagedGraph} when it is constructed with a
+ * {@code StreamingGraph}.  Each triple is written to the stream as soon as it is generated, so the memory required to
+ * map an object graph is bounded by the depth of the object graph, not its size.  The trade-off is that nothing is
+ * retained: the individuals that have been written cannot be retrieved, and a triple that is generated more than once
+ * (e.g. an individual that is reachable by more than one path) is written more than once.  Readers of the stream
+ * (and {@code Model}s in general) treat duplicate triples as a single triple.
+ * </p>
+ * <p>
+ * Like the {@code ManagedGraph}, only OWL classes and properties present in the ontology of the supplied
+ * {@link OntologyManager} may be used.  The ontology is consulted once, on construction, to resolve every
+ * {@link OwlClasses} and {@link OwlProperties} constant; generating a triple does not query the ontology.
+ * </p>
+ * <p>
+ * Callers must invoke {@link #start()} before generating triples, and {@link #finish()} afterwards.  This class is not
+ * thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class StreamingGraph {
+
+    /**
+     * OWL classes present in the ontology, mapped to their nodes
+     */
+    private final Map<OwlClasses, Node> classes = new EnumMap<>(OwlClasses.class);
+
+    /**
+     * OWL properties present in the ontology as the expected kind of property (object or datatype), mapped to their
+     * nodes
+     */
+    private final Map<OwlProperties, Node> properties = new EnumMap<>(OwlProperties.class);
+
+    private final StreamRDF out;
+
+    /**
+     * Construct a graph that writes triples to the supplied stream, and that abides by the managed ontology.
+     *
+     * @param ontMgr the ontology manager
+     * @param out the stream receiving generated triples
+     */
+    public StreamingGraph(final OntologyManager ontMgr, final StreamRDF out) {
+        if (ontMgr == null) {
+            throw new IllegalArgumentException("OntologyManager must not be null.");
+        }
+
+        if (out == null) {
+            throw new IllegalArgumentException("StreamRDF must not be null.");
+        }
+
+        this.out = out;
+
+        for (OwlClasses owlClass : OwlClasses.values()) {
+            try {
+                ontMgr.owlClass(owlClass.ns(), owlClass.localname());
+                classes.put(owlClass, NodeFactory.createURI(owlClass.fqname()));
+            } catch (IllegalArgumentException e) {
+                // Not in the ontology; attempts to use the class will fail
+            }
+        }
+
+        for (OwlProperties property : OwlProperties.values()) {
+            try {
+                if (property.object()) {
+                    ontMgr.objectProperty(property.fqname());
+                } else {
+                    ontMgr.datatypeProperty(property.fqname());
+                }
+                properties.put(property, NodeFactory.createURI(property.fqname()));
+            } catch (IllegalArgumentException e) {
+                // Not in the ontology; attempts to use the property will fail
+            }
+        }
+    }
+
+    /**
+     * Construct a graph that serializes triples to the supplied output stream, and that abides by the managed
+     * ontology.
+     *
+     * @param ontMgr the ontology manager
+     * @param out output stream receiving the serialized triples
+     * @param format the streaming format the triples should be serialized in, e.g. {@code RDFFormat.NTRIPLES} or
+     *               {@code RDFFormat.TURTLE_BLOCKS}
+     * @throws IllegalArgumentException if {@code format} cannot be written as a stream
+     */
+    public StreamingGraph(final OntologyManager ontMgr, final OutputStream out, final RDFFormat format) {
+        this(ontMgr, writerFor(out, format));
+    }
+
+    /**
+     * Starts the stream, writing the prefixes of {@link Rdf.Ns#PREFIXES}.
+     */
+    public void start() {
+        out.start();
+        Rdf.Ns.PREFIXES.forEach(out::prefix);
+    }
+
+    /**
+     * Finishes the stream.  The underlying output stream is not closed.
+     */
+    public void finish() {
+        out.finish();
+    }
+
+    /**
+     * Create an anonymous individual.  Each invocation results in a new blank node typed as {@code owlClass}.
+     *
+     * @param owlClass the class the created individual will be a member of
+     * @return the blank node of the individual
+     * @throws IllegalArgumentException if the OWL class is not present in the ontology
+     */
+    public Node newIndividual(final OwlClasses owlClass) {
+        final Node individual = NodeFactory.createBlankNode();
+        out.triple(Triple.create(individual, RDF.Nodes.type, owlClass(owlClass)));
+        return individual;
+    }
+
+    /**
+     * Create an individual, typed as {@code owlClass}.
+     *
+     * @param owlClass the class the created individual will be a member of
+     * @param individualId the identifier of the individual
+     * @return the node of the individual
+     * @throws IllegalArgumentException if the OWL class is not present in the ontology
+     */
+    public Node newIndividual(final OwlClasses owlClass, final Object individualId) {
+        final Node individual = NodeFactory.createURI(individualId.toString());
+        out.triple(Triple.create(individual, RDF.Nodes.type, owlClass(owlClass)));
+        return individual;
+    }
+
+    /**
+     * Add an individual, identified or anonymous, as an object of a property.
+     *
+     * @param individual the subject, an OWL individual
+     * @param property the object property relating the {@code individual} to the {@code objectIndividual}
+     * @param objectIndividual the object, an OWL individual
+     * @throws IllegalArgumentException if the property is not present in the ontology as an object property
+     */
+    public void addIndividual(final Node individual, final OwlProperties property, final Node objectIndividual) {
+        out.triple(Triple.create(individual, property(property), objectIndividual));
+    }
+
+    /**
+     * Adds a literal as the object of the individual.
+     *
+     * @param individual the subject, an OWL individual
+     * @param property the datatype property relating the {@code individual} to the {@code literal}
+     * @param literal the object, a literal
+     * @throws IllegalArgumentException if the property is not present in the ontology as a datatype property
+     */
+    public void addLiteral(final Node individual, final OwlProperties property, final Object literal) {
+        final Node object = literal instanceof Literal ?
+                ((Literal) literal).asNode() : ResourceFactory.createTypedLiteral(literal).asNode();
+        out.triple(Triple.create(individual, property(property), object));
+    }
+
+    /**
+     * Adds a resource as the object of the individual.
+     *
+     * @param individual the subject, an OWL individual
+     * @param property the object property relating the {@code individual} to the {@code resource}
+     * @param resource the object, a resource
+     * @throws IllegalArgumentException if the property is not present in the ontology as an object property
+     */
+    public void addResource(final Node individual, final OwlProperties property, final String resource) {
+        out.triple(Triple.create(individual, property(property), Util.asResource(resource).asNode()));
+    }
+
+    private Node owlClass(final OwlClasses owlClass) {
+        final Node result = classes.get(owlClass);
+        if (result == null) {
+            throw new IllegalArgumentException(String.format("Could not find OWL class %s", owlClass.fqname()));
+        }
+        return result;
+    }
+
+    private Node property(final OwlProperties property) {
+        final Node result = properties.get(property);
+        if (result == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Could not find %s property %s (maybe the property is a %s instead, or the property is not " +
+                            "present in the ontology)",
+                    (property.object() ? "object" : "datatype"), property.fqname(),
+                    (property.object() ? "datatype" : "object")));
+        }
+        return result;
+    }
+
+    private static StreamRDF writerFor(final OutputStream out, final RDFFormat format) {
+        if (out == null) {
+            throw new IllegalArgumentException("OutputStream must not be null.");
+        }
+
+        if (!StreamRDFWriter.registered(format)) {
+            throw new IllegalArgumentException(String.format("RDF format %s cannot be written as a stream", format));
+        }
+
+        return StreamRDFWriter.getWriterStream(out, format);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.dataconservancy.cos.rdf.support;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Unit tests concerning the behavior of {@code FieldAccessor}
+ *
+ * @author agent (agent@local)
+ */
+public class FieldAccessorTest {
+
+    /**
+     * Insures private, primitive, and static fields can be read, and that primitive values are boxed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGet() throws Exception {
+        final Fields fields = new Fields();
+
+        assertEquals("value", new FieldAccessor(Fields.class.getDeclaredField("string")).get(fields));
+        assertEquals(42, new FieldAccessor(Fields.class.getDeclaredField("primitive")).get(fields));
+        assertEquals("static", new FieldAccessor(Fields.class.getDeclaredField("STATIC")).get(null));
+        assertNull(new FieldAccessor(Fields.class.getDeclaredField("empty")).get(fields));
+    }
+
+    /**
+     * Insures that reading a field from an object of the wrong type fails.
+     *
+     * @throws Exception
+     */
+    @Test(expected = RuntimeException.class)
+    public void testGetWrongType() throws Exception {
+        new FieldAccessor(Fields.class.getDeclaredField("string")).get("not a Fields instance");
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fields {
+
+        private static final String STATIC = "static";
+
+        private String string = "value";
+
+        private int primitive = 42;
+
+        private Object empty;
+
+    }
+
+}
@@ -20,7 +20,11 @@ import org.apache.jena.ontology.ObjectProperty;
 import org.junit.Assert;
 import org.junit.Test;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Elliot Metsger (emetsger@jhu.edu)
@@ -60,4 +64,47 @@ public class OntologyTest {
         Assert.assertEquals(OwlProperties.OSF_HAS_ROOT.localname(), p.getLocalName());
         Assert.assertEquals(OwlProperties.OSF_HAS_ROOT.ns(), p.getNameSpace());
     }
+
+    @Test
+    public void testLookupsServedFromTable() throws Exception {
+        // Terms enumerated by OwlProperties and OwlClasses are resolved once, so the same instance is returned
+        assertSame(underTest.datatypeProperty(OwlProperties.OSF_HAS_NAME.fqname()),
+                underTest.datatypeProperty(OwlProperties.OSF_HAS_NAME.fqname()));
+        assertSame(underTest.objectProperty(OwlProperties.OSF_HAS_ROOT.fqname()),
+                underTest.objectProperty(OwlProperties.OSF_HAS_ROOT.fqname()));
+        assertSame(underTest.owlClass(OwlClasses.OSF_USER.ns(), OwlClasses.OSF_USER.localname()),
+                underTest.owlClass(OwlClasses.OSF_USER.ns(), OwlClasses.OSF_USER.localname()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetObjectPropertyAsDatatypeProperty() throws Exception {
+        underTest.datatypeProperty(OwlProperties.OSF_HAS_ROOT.fqname());
+    }
+
+    @Test
+    public void testIndividualsAreNotShared() throws Exception {
+        final OntologyManager other = new OntologyManager();
+        final String uri = "http://example.org/users/1";
+
+        underTest.individual(uri, OwlClasses.OSF_USER.ns(), OwlClasses.OSF_USER.localname());
+
+        // Both managers share the parsed ontology, but not the individuals added to it
+        assertNotNull(other.owlClass(OwlClasses.OSF_USER.ns(), OwlClasses.OSF_USER.localname()));
+        assertTrue(underTest.hasIndividual(uri));
+        assertFalse(other.hasIndividual(uri));
+    }
+
+    @Test
+    public void testTermsAreNotShared() throws Exception {
+        final OntologyManager other = new OntologyManager();
+        final String userNs = OwlClasses.OSF_USER.ns();
+        final String user = OwlClasses.OSF_USER.localname();
+
+        // Each manager answers terms bound to its own model, which is only ever used by that manager
+        assertSame(underTest.getOntModel(), underTest.owlClass(userNs, user).getOntModel());
+        assertSame(other.getOntModel(), other.owlClass(userNs, user).getOntModel());
+        assertNotSame(underTest.owlClass(userNs, user), other.owlClass(userNs, user));
+        assertSame(underTest.getOntModel(),
+                underTest.objectProperty(OwlProperties.OSF_HAS_ROOT.fqname()).getOntModel());
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.dataconservancy.cos.rdf.support;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.vocabulary.RDF;
+import org.dataconservancy.cos.rdf.annotations.IndividualUri;
+import org.dataconservancy.cos.rdf.annotations.OwlIndividual;
+import org.dataconservancy.cos.rdf.annotations.OwlProperty;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests concerning the behavior of {@code StreamingGraph}, and of the {@code AnnotationsProcessor} when it streams
+ * triples.
+ *
+ * @author agent (agent@local)
+ */
+public class StreamingGraphTest {
+
+    private static final String USER_ID = "http://example.org/users/1";
+
+    private final OntologyManager ontMgr = new OntologyManager();
+
+    /**
+     * Insures that triples written to the graph are serialized to the output stream.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStreamTriples() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final StreamingGraph underTest = new StreamingGraph(ontMgr, out, RDFFormat.NTRIPLES);
+
+        underTest.start();
+        final Node user = underTest.newIndividual(OwlClasses.OSF_USER, USER_ID);
+        underTest.addLiteral(user, OwlProperties.OSF_HAS_FULLNAME, "Jane Doe");
+        underTest.finish();
+
+        final Model result = read(out);
+        final Resource userResource = result.getResource(USER_ID);
+        assertEquals(2, result.size());
+        assertTrue(result.contains(userResource, RDF.type, result.getResource(OwlClasses.OSF_USER.fqname())));
+        assertTrue(result.contains(userResource,
+                result.getProperty(OwlProperties.OSF_HAS_FULLNAME.fqname()), "Jane Doe"));
+    }
+
+    /**
+     * Insures that the processor streams the triples of an annotated object, and does not retain individuals.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testProcessStreaming() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final StreamingGraph graph = new StreamingGraph(ontMgr, out, RDFFormat.NTRIPLES);
+        final AnnotationsProcessor underTest = new AnnotationsProcessor(graph);
+
+        graph.start();
+        assertTrue(underTest.process(new StreamedUser()).isEmpty());
+        graph.finish();
+
+        final Model result = read(out);
+        assertTrue(result.contains(result.getResource(USER_ID),
+                result.getProperty(OwlProperties.OSF_HAS_FULLNAME.fqname()), "Jane Doe"));
+    }
+
+    /**
+     * Insures that properties not present in the ontology are rejected.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProperty() throws Exception {
+        final StreamingGraph underTest = new StreamingGraph(ontMgr, new ByteArrayOutputStream(), RDFFormat.NTRIPLES);
+        underTest.start();
+        underTest.addLiteral(underTest.newIndividual(OwlClasses.OSF_USER, USER_ID), OwlProperties.OSF_HAS_HREF, "foo");
+    }
+
+    /**
+     * Insures that formats which cannot be streamed are rejected.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonStreamingFormat() throws Exception {
+        new StreamingGraph(ontMgr, new ByteArrayOutputStream(), RDFFormat.RDFXML_PRETTY);
+    }
+
+    private static Model read(final ByteArrayOutputStream out) {
+        final Model model = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(model, new ByteArrayInputStream(out.toByteArray()), Lang.NTRIPLES);
+        return model;
+    }
+
+    @OwlIndividual(OwlClasses.OSF_USER)
+    private static class StreamedUser {
+
+        @IndividualUri
+        private String id = USER_ID;
+
+        @OwlProperty(OwlProperties.OSF_HAS_FULLNAME)
+        private String fullName = "Jane Doe";
+
+    }
+
+}
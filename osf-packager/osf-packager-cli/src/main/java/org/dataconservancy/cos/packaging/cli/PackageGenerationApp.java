@@ -21,9 +21,12 @@ import com.squareup.okhttp.Request;
 import com.squareup.okhttp.Response;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.dataconservancy.cos.osf.client.model.LightRegistration;
 import org.dataconservancy.cos.osf.client.model.Registration;
 import org.dataconservancy.cos.osf.client.model.User;
+import org.dataconservancy.cos.osf.client.retrofit.AsyncOsfService;
 import org.dataconservancy.cos.osf.client.retrofit.OsfService;
+import org.dataconservancy.cos.osf.client.support.DaemonThreadFactory;
 import org.dataconservancy.cos.osf.packaging.OsfPackageGraph;
 import org.dataconservancy.cos.packaging.OsfContentProvider;
 import org.dataconservancy.packaging.shared.IpmPackager;
@@ -37,9 +40,20 @@ import org.springframework.context.support.ClassPathXmlApplicationContext;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +65,32 @@ import java.util.stream.Collectors;
  * and the required BagIt metadata: the bag name on the command line, and the other metadata
  * in a properties file
  * </p>
+ * <p>
+ * In batch mode, many registrations are packaged by a single process.  The registrations are listed in a file
+ * ({@code -b}, one registration URL per line), and/or selected by a query against the registrations endpoint
+ * ({@code -q}, e.g. {@code filter[public]=true}).  Each registration is packaged by an independent job, with its own
+ * package graph, into a directory named for the registration GUID beneath the output directory.  Up to {@code -j}
+ * jobs are run concurrently, and a summary of the jobs is printed when they have all finished.
+ * </p>
+ * <p>
+ * If a work directory is supplied ({@code -w}), package generation is checkpointed there: downloaded content is
+ * retained in the work directory, and in batch mode, the registrations that have been packaged are recorded in a
+ * journal.  Re-running an interrupted invocation with the same work directory skips the registrations that were
+ * packaged, and does not download content again.
+ * </p>
+ * <p>
+ * Only binary content and the completion of batch jobs are checkpointed: the metadata of a registration (the
+ * registration, its users, and the rest of its package graph) is not journaled, and is retrieved from OSF again each
+ * time the registration is packaged.  Re-running a single registration therefore repeats all of its metadata
+ * requests, as does re-running a batch for each registration that had not been packaged.  This keeps a package
+ * consistent with the current state of the registration, at the cost of the metadata requests.
+ * </p>
+ * <p>
+ * Packages are generated incrementally by re-using the work directory of a previous run: binary content whose URI,
+ * size, modification date and checksum are unchanged is taken from the work directory, and only content that has
+ * changed is downloaded.  In batch mode, registrations recorded in the journal are skipped, so the journal should be
+ * removed from the work directory in order to package them again.
+ * </p>
  *
  * @author jrm
  */
@@ -58,6 +98,11 @@ public class PackageGenerationApp {
 
     private static ClassPathXmlApplicationContext CTX;
 
+    /**
+     * Name of the file in the work directory recording the registrations packaged in batch mode
+     */
+    private static final String BATCH_JOURNAL = "completed.journal";
+
 
     @Argument(multiValued = false, usage = "URL to the registration to be packaged")
     private static String registrationUrl;
@@ -92,6 +137,30 @@ public class PackageGenerationApp {
     @Option(name = "-m", aliases = {"-metadata", "--metadata"}, usage = "the path to the metadata properties file for additional bag metadata")
     private static File bagMetadataFile;
 
+    /**
+     * file listing the URLs of registrations to package in batch mode
+     */
+    @Option(name = "-b", aliases = {"-batch", "--batch"}, usage = "path to a file listing registration URLs to package, one per line")
+    private static File batchFile;
+
+    /**
+     * query selecting the registrations to package in batch mode
+     */
+    @Option(name = "-q", aliases = {"-query", "--query"}, usage = "query parameters selecting registrations to package, e.g. 'filter[public]=true'")
+    private static String query;
+
+    /**
+     * the number of concurrent package jobs in batch mode
+     */
+    @Option(name = "-j", aliases = {"-jobs", "--jobs"}, usage = "the number of registrations packaged concurrently in batch mode")
+    private static int jobs = 1;
+
+    /**
+     * persistent directory checkpointing the work of package generation
+     */
+    @Option(name = "-w", aliases = {"-work", "--work"}, usage = "path to a directory checkpointing downloads and batch jobs, to resume interrupted runs")
+    private static File workDirectory;
+
     /**
      * Requests the current version number of the cli application.
      */
@@ -132,11 +201,45 @@ public class PackageGenerationApp {
                 System.exit(1);
             }
 
+            final boolean batch = batchFile != null || query != null;
+
+            if (!batch && registrationUrl == null) {
+                System.err.println("A registration URL, a batch file (-b), or a query (-q) is required.");
+                parser.printUsage(System.err);
+                System.exit(1);
+            }
+
+            if (batch && (registrationUrl != null || packageName != null)) {
+                System.err.println("A registration URL or package name may not be supplied in batch mode.");
+                System.exit(1);
+            }
+
+            if (jobs < 1) {
+                System.err.println("The number of jobs must be a positive integer.");
+                System.exit(1);
+            }
+
+            if (batchFile != null && (!batchFile.exists() || !batchFile.isFile())) {
+                System.err.println("Supplied batch file " + batchFile.getCanonicalPath() +
+                        " does not exist or is not a file.");
+                System.exit(1);
+            }
+
+            if (bagMetadataFile != null && (!bagMetadataFile.exists() || !bagMetadataFile.isFile())) {
+                System.err.println("Supplied bag metadata file " + bagMetadataFile.getCanonicalPath() +
+                        " does not exist or is not a file.");
+                System.exit(1);
+            }
+
             CTX = new ClassPathXmlApplicationContext(
                     "classpath*:org/dataconservancy/cos/osf/client/config/applicationContext.xml",
                     "classpath*:org/dataconservancy/cos/osf/client/retrofit/applicationContext.xml",
                     "classpath:/org/dataconservancy/cos/packaging/config/applicationContext.xml");
 
+            if (batch) {
+                System.exit(application.runBatch());
+            }
+
             final Response response = CTX.getBean("okHttpClient", OkHttpClient.class).newCall(
                     new Request.Builder()
                             .head()
@@ -172,7 +275,7 @@ public class PackageGenerationApp {
                 outputLocation = new File(packageName);
             }
 
-            if (outputLocation.exists()) {
+            if (outputLocation.exists() && workDirectory == null) {
                 System.err.println("Destination directory " + outputLocation.getCanonicalPath() + " already exists!  " +
                         "Either (re)move the directory, or choose a different output location.");
                 System.exit(1);
@@ -180,12 +283,6 @@ public class PackageGenerationApp {
 
             FileUtils.forceMkdir(outputLocation);
 
-            if (bagMetadataFile != null && (!bagMetadataFile.exists() || !bagMetadataFile.isFile())) {
-                System.err.println("Supplied bag metadata file " + bagMetadataFile.getCanonicalPath() +
-                        " does not exist or is not a file.");
-                System.exit(1);
-            }
-
             /* Run the package generation application proper */
             application.run();
 
@@ -223,23 +320,159 @@ public class PackageGenerationApp {
             System.exit(1);
         }
 
-        final List<User> users = registration.getContributors().stream()
+        packageRegistration(CTX.getBean("asyncOsfService", AsyncOsfService.class), registration, packageName,
+                outputLocation, workDirectory);
+    }
+
+    /**
+     * Packages each registration listed in the batch file or selected by the query, running up to {@code jobs}
+     * package jobs concurrently, and prints a summary of the jobs.  If a work directory is supplied, registrations
+     * recorded in its journal are skipped, and each registration that is packaged is appended to the journal.
+     *
+     * @return the exit status of the application: {@code 0} if every registration was packaged, {@code 1} otherwise
+     * @throws Exception if the registrations to package cannot be determined
+     */
+    private int runBatch() throws Exception {
+        final OsfService osfService = CTX.getBean("osfService", OsfService.class);
+        final File parent = (outputLocation == null) ? new File(".") : outputLocation;
+
+        // Map each registration GUID to the call retrieving the registration
+        final Map<String, Callable<Registration>> registrations = new LinkedHashMap<>();
+
+        if (batchFile != null) {
+            for (String line : FileUtils.readLines(batchFile, "UTF-8")) {
+                final String url = line.trim();
+                if (url.length() > 0 && !url.startsWith("#")) {
+                    addRegistration(registrations, parseGuid(url), () -> osfService.registration(url).execute().body(),
+                            batchFile.getName());
+                }
+            }
+        }
+
+        if (query != null) {
+            for (LightRegistration lightRegistration : osfService.registrationIds(parseQuery(query)).execute().body()) {
+                final String id = lightRegistration.getId();
+                addRegistration(registrations, id, () -> osfService.registrationById(id).execute().body(), "the query");
+            }
+        }
+
+        final File journal = (workDirectory == null) ? null : new File(workDirectory, BATCH_JOURNAL);
+        final Set<String> completed = new HashSet<>();
+        if (journal != null && journal.exists()) {
+            completed.addAll(FileUtils.readLines(journal, "UTF-8"));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(jobs, new DaemonThreadFactory("package-job"));
+
+        final Map<String, Future<String>> results = new LinkedHashMap<>();
+        final long start = System.currentTimeMillis();
+
+        try {
+            registrations.forEach((guid, registration) -> results.put(guid, executor.submit(() -> {
+                if (completed.contains(guid)) {
+                    return "skipped, packaged by a previous run";
+                }
+
+                final long jobStart = System.currentTimeMillis();
+                final File location = new File(parent, guid);
+                if (location.exists() && journal == null) {
+                    throw new IllegalStateException("Destination directory " + location.getCanonicalPath() +
+                            " already exists");
+                }
+
+                final Registration r = registration.call();
+                if (r == null) {
+                    throw new IllegalStateException("Failed to obtain registration " + guid + " from endpoint");
+                }
+
+                FileUtils.forceMkdir(location);
+                // The asyncOsfService is a prototype, so each job uses its own
+                packageRegistration(CTX.getBean("asyncOsfService", AsyncOsfService.class), r, guid, location,
+                        (workDirectory == null) ? null : new File(workDirectory, guid));
+
+                if (journal != null) {
+                    synchronized (journal) {
+                        FileUtils.writeLines(journal, "UTF-8", Collections.singleton(guid), true);
+                    }
+                }
+
+                return String.format("packaged in %d ms", System.currentTimeMillis() - jobStart);
+            })));
+
+            int failed = 0;
+            System.out.println("Batch summary:");
+            for (Map.Entry<String, Future<String>> result : results.entrySet()) {
+                try {
+                    System.out.println("  " + result.getKey() + " OK: " + result.getValue().get());
+                } catch (ExecutionException e) {
+                    failed++;
+                    // Failures retrieving contributing users arrive wrapped by the CompletableFuture that joined them
+                    Throwable cause = e.getCause();
+                    while (cause instanceof CompletionException && cause.getCause() != null) {
+                        cause = cause.getCause();
+                    }
+                    System.out.println("  " + result.getKey() + " FAILED: " + cause.getMessage());
+                    cause.printStackTrace(System.err);
+                }
+            }
+
+            System.out.println(String.format("%d of %d registrations packaged in %d ms",
+                    results.size() - failed, results.size(), System.currentTimeMillis() - start));
+
+            return (failed == 0) ? 0 : 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds a registration to the batch, unless the batch already contains a registration with the same GUID, in which
+     * case a warning is printed and the registration is packaged once, as first listed.
+     *
+     * @param registrations the registrations in the batch, keyed by GUID
+     * @param guid the GUID of the registration
+     * @param registration the call retrieving the registration
+     * @param source where the registration was listed, for the warning
+     */
+    private static void addRegistration(final Map<String, Callable<Registration>> registrations, final String guid,
+                                        final Callable<Registration> registration, final String source) {
+        if (registrations.putIfAbsent(guid, registration) != null) {
+            System.err.println("Warning: registration " + guid + " is listed more than once (again by " + source +
+                    "); it will be packaged once.");
+        }
+    }
+
+    /**
+     * Packages a single registration and its contributors into {@code location}.  Each invocation uses its own
+     * package graph, so invocations may run concurrently.
+     *
+     * @param asyncOsfService the OSF service used to retrieve contributing users
+     * @param registration the registration to package
+     * @param name the name of the package
+     * @param location the directory the package is written to
+     * @param workDir the directory content is checkpointed in, may be {@code null}
+     * @throws Exception if the package cannot be generated
+     */
+    private void packageRegistration(final AsyncOsfService asyncOsfService, final Registration registration,
+                                     final String name, final File location, final File workDir)
+            throws Exception {
+        // Request every contributing user at once, then wait for the responses
+        final List<CompletableFuture<User>> userRequests = registration.getContributors().stream()
                 .map(c -> {
-                    try {
-                        if (c.getUserRel() != null) {
-                            return osfService.user(c.getUserRel()).execute().body();
-                        } else {
-                            String contributorId = c.getId();
-                            if (contributorId.contains("-")) {
-                                contributorId = contributorId.split("-")[1];
-                            }
-                            return osfService.userById(contributorId).execute().body();
+                    if (c.getUserRel() != null) {
+                        return asyncOsfService.user(c.getUserRel());
+                    } else {
+                        String contributorId = c.getId();
+                        if (contributorId.contains("-")) {
+                            contributorId = contributorId.split("-")[1];
                         }
-                    } catch (IOException e) {
-                        throw new RuntimeException(e.getMessage(), e);
+                        return asyncOsfService.userById(contributorId);
                     }
                 })
                 .collect(Collectors.toList());
+        final List<User> users = userRequests.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
 
         // Prepare package graph
         final OsfPackageGraph packageGraph = CTX.getBean("packageGraph", OsfPackageGraph.class);
@@ -249,37 +482,62 @@ public class PackageGenerationApp {
         // Prepare content provider using package graph
         // TODO - Does this work without the lambda-specified resolver used in OsfContentProviderTest?
         final OsfContentProvider contentProvider = new OsfContentProvider(packageGraph,
-                CTX.getBean("okHttpClient", OkHttpClient.class));
-
-        // Create the package in the default location with the supplied name.
-        // No package generation parameters are supplied.
-        final IpmPackager ipmPackager = new IpmPackager();
-        ipmPackager.setPackageName(packageName);
-        ipmPackager.setPackageLocation(outputLocation.getPath());
-        final Package pkg;
-        if (bagMetadataFile == null) {
-            pkg = ipmPackager.buildPackage(contentProvider, null, null);
-        } else {
-            try (final FileInputStream metadataStream = new FileInputStream(bagMetadataFile)) {
-                pkg = ipmPackager.buildPackage(contentProvider, metadataStream, null);
+                CTX.getBean("downloadHttpClient", OkHttpClient.class));
+        contentProvider.setWorkDirectory(workDir);
+
+        try {
+            // Create the package in the default location with the supplied name.
+            // No package generation parameters are supplied.
+            final IpmPackager ipmPackager = new IpmPackager();
+            ipmPackager.setPackageName(name);
+            ipmPackager.setPackageLocation(location.getPath());
+            final Package pkg;
+            if (bagMetadataFile == null) {
+                pkg = ipmPackager.buildPackage(contentProvider, null, null);
+            } else {
+                try (final FileInputStream metadataStream = new FileInputStream(bagMetadataFile)) {
+                    pkg = ipmPackager.buildPackage(contentProvider, metadataStream, null);
+                }
             }
+
+            // Now just write the package out to a file in the output location
+            // this must agree with the package root directory name according to our
+            // dataconservancy bagit profile
+            // TODO: can the user specify the kind of archive?  tar vs tar.gz?
+            final File packageFile = new File(location.getAbsolutePath(), name + ".tar");
+            final FileOutputStream out;
+            try {
+                out = new FileOutputStream(packageFile);
+                IOUtils.copy(pkg.serialize(), out);
+                out.close();
+            } catch (java.io.IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+
+            pkg.cleanupPackage();
+        } finally {
+            contentProvider.close();
         }
+    }
 
-        // Now just write the package out to a file in the output location
-        // this must agree with the package root directory name according to our
-        // dataconservancy bagit profile
-        // TODO: can the user specify the kind of archive?  tar vs tar.gz?
-        final File packageFile = new File(outputLocation.getAbsolutePath(), packageName + ".tar");
-        final FileOutputStream out;
-        try {
-            out = new FileOutputStream(packageFile);
-            IOUtils.copy(pkg.serialize(), out);
-            out.close();
-        } catch (java.io.IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
+    /**
+     * Parses query parameters of the form {@code name=value&name=value} into a map.
+     *
+     * @param query the query parameters
+     * @return the query parameters keyed by name
+     * @throws IllegalArgumentException if a parameter has no value
+     */
+    private static Map<String, String> parseQuery(final String query) {
+        final Map<String, String> params = new LinkedHashMap<>();
+        for (String param : query.split("&")) {
+            final int i = param.indexOf('=');
+            if (i < 1) {
+                throw new IllegalArgumentException("Query parameter '" + param + "' must have the form name=value");
+            }
+            params.put(param.substring(0, i), param.substring(i + 1));
         }
 
-        pkg.cleanupPackage();
+        return params;
     }
 
     private static String parseGuid(final String registrationUrl) {
@@ -15,6 +15,7 @@
  */
 package org.dataconservancy.cos.osf.packaging;
 
+import org.apache.jena.graph.Node;
 import org.apache.jena.ontology.Individual;
 import org.apache.jena.rdf.model.NodeIterator;
 import org.apache.jena.rdf.model.Property;
@@ -22,17 +23,18 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Selector;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
 import org.dataconservancy.cos.osf.client.model.Registration;
 import org.dataconservancy.cos.osf.client.model.User;
 import org.dataconservancy.cos.rdf.support.AnnotationsProcessor;
 import org.dataconservancy.cos.rdf.support.OntologyManager;
 import org.dataconservancy.cos.rdf.support.ManagedGraph;
+import org.dataconservancy.cos.rdf.support.OwlClasses;
 import org.dataconservancy.cos.rdf.support.Rdf;
 
+import java.util.HashMap;
 import java.util.Map;
 
-import static org.dataconservancy.cos.rdf.support.Util.asProperty;
-
 @SuppressWarnings("checkstyle:linelength")
 /**
  * Responsible for creating a package graph from OSF domain objects.
@@ -81,9 +83,21 @@ public class OsfPackageGraph extends ManagedGraph {
      */
     private AnnotationsProcessor processor;
 
+    /**
+     * Index of subjects to whether or not they have an {@code rdf:type} in the OSF namespace.  Individuals of OSF
+     * classes are indexed as they are created by this graph; other subjects are indexed the first time they are tested
+     * by {@link #OSF_SELECTOR}.
+     */
+    private final Map<Node, Boolean> osfTyped = new HashMap<>();
+
     /**
      * A {@link Selector} which selects statements whose subjects have an {@code rdf:type} in the OSF
      * namespace.  Statements which have anonymous nodes as an object for an {@code rdf:type} are excluded.
+     * <p>
+     * Whether or not a subject has an OSF type is determined once per subject, so this selector assumes that
+     * {@code rdf:type}s are not removed from, or added to (other than by creating individuals through this graph),
+     * the subjects of the underlying model once they have been tested.
+     * </p>
      */
     public final Selector OSF_SELECTOR = new Selector() {
         @Override
@@ -125,6 +139,16 @@ public class OsfPackageGraph extends ManagedGraph {
         this.processor = new AnnotationsProcessor(this);
     }
 
+    @Override
+    public Individual newIndividual(final OwlClasses owlClass) {
+        return indexed(owlClass, super.newIndividual(owlClass));
+    }
+
+    @Override
+    public Individual newIndividual(final OwlClasses owlClass, final Object individualId) {
+        return indexed(owlClass, super.newIndividual(owlClass, individualId));
+    }
+
     /**
      * Adds an OSF {@link Registration} to the graph.
      *
@@ -162,7 +186,7 @@ public class OsfPackageGraph extends ManagedGraph {
      * @return true if the statement contains an rdf:type predicate with an anonymous node as the object
      */
     private boolean isAnonymousRdfType(final Statement statement) {
-        if (statement.getPredicate().equals(asProperty(Rdf.Ns.RDF + "type"))) {
+        if (statement.getPredicate().equals(RDF.type)) {
             if (statement.getObject().isAnon()) {
                 return true;
             }
@@ -171,19 +195,25 @@ public class OsfPackageGraph extends ManagedGraph {
         return false;
     }
 
+    /**
+     * Records the supplied individual as having an OSF type if {@code owlClass} is in the OSF namespace.
+     *
+     * @param owlClass the class of the individual
+     * @param individual the newly created individual
+     * @return the individual
+     */
+    private Individual indexed(final OwlClasses owlClass, final Individual individual) {
+        if (owlClass.ns().startsWith(Rdf.Ns.OSF)) {
+            osfTyped.put(individual.asNode(), Boolean.TRUE);
+        }
+        return individual;
+    }
+
     /**
      * Returns true if the subject of the {@code statement} has an {@code rdf:type} that is in the OSF namespace.
      * <p>
-     * The underlying Jena {@code OntModel} is consulted for all objects that have the subject of the {@code statement}
-     * and a predicate of {@code rdf:type}.  If any of the objects (the objects represent an RDF type) are in the OSF
-     * namespace, then this method returns true.
-     * </p>
-     * <h3>Examples</h3>
-     * <p>
-     * If the {@code statement} supplied to this method was: {@code <vae86> osf:hasCategory "DATA"}, and the model
-     * encapsulated by this graph contained a triple {@code <vae86> a osf:OSFBusinessObject}, then this method would
-     * return {@code true}, because the subject of the statement {@code <vae86>} has an {@code rdf:type} that is in the
-     * OSF namespace.
+     * The answer is obtained from the index of subjects maintained by this graph.  Subjects that have not been
+     * indexed are looked up in the underlying model by {@link #hasOsfType(Resource)}, and added to the index.
      * </p>
      *
      * @param statement the statement whose subject may be a resource that has an {@code rdf:type} from the OSF
@@ -191,28 +221,47 @@ public class OsfPackageGraph extends ManagedGraph {
      * @return true if the statement's subject has an {@code rdf:type} from the OSF namespace
      */
     private boolean hasOsfType(final Statement statement) {
-        final StringBuilder msg = new StringBuilder();
-        msg.append(String.format("Testing Statement: %s %s %s\n",
-                statement.getSubject(), statement.getPredicate(), statement.getObject()));
-        msg.append(String.format("Does the subject %s have an rdf:type in the OSF namespace?\n",
-                statement.getSubject()));
-        final NodeIterator itr = ontMgr.getOntModel()
-                .listObjectsOfProperty(statement.getSubject(), asProperty(Rdf.Ns.RDF + "type"));
-        boolean result = false;
-        while (itr.hasNext()) {
-            final RDFNode objectNode = itr.nextNode();
-            msg.append(String.format("  - Testing rdf:type: %s\n", objectNode));
-            if (!objectNode.isAnon()) {
-                result = objectNode.asResource().getURI().startsWith(Rdf.Ns.OSF);
-            }
-            msg.append(result);
-            msg.append("\n");
-            if (result) {
-                LOG.trace(msg.toString());
-                break;
-            }
+        final Resource subject = statement.getSubject();
+        Boolean result = osfTyped.get(subject.asNode());
+        if (result == null) {
+            result = hasOsfType(subject);
+            osfTyped.put(subject.asNode(), result);
         }
 
         return result;
     }
+
+    /**
+     * Returns true if the {@code subject} has an {@code rdf:type} that is in the OSF namespace.
+     * <p>
+     * The underlying Jena {@code OntModel} is consulted for all objects that have the {@code subject} and a predicate
+     * of {@code rdf:type}.  If any of the objects (the objects represent an RDF type) are in the OSF namespace, then
+     * this method returns true.
+     * </p>
+     * <h3>Examples</h3>
+     * <p>
+     * If the {@code subject} supplied to this method was: {@code <vae86>}, and the model encapsulated by this graph
+     * contained a triple {@code <vae86> a osf:OSFBusinessObject}, then this method would return {@code true}, because
+     * the subject {@code <vae86>} has an {@code rdf:type} that is in the OSF namespace.
+     * </p>
+     *
+     * @param subject a resource that may have an {@code rdf:type} from the OSF namespace
+     * @return true if the subject has an {@code rdf:type} from the OSF namespace
+     */
+    private boolean hasOsfType(final Resource subject) {
+        final NodeIterator itr = ontMgr.getOntModel().listObjectsOfProperty(subject, RDF.type);
+        try {
+            while (itr.hasNext()) {
+                final RDFNode objectNode = itr.nextNode();
+                if (!objectNode.isAnon() && objectNode.asResource().getURI().startsWith(Rdf.Ns.OSF)) {
+                    LOG.trace("Subject {} has rdf:type {} in the OSF namespace", subject, objectNode);
+                    return true;
+                }
+            }
+        } finally {
+            itr.close();
+        }
+
+        return false;
+    }
 }
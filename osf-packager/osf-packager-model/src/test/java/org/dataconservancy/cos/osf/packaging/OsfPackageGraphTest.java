@@ -16,6 +16,12 @@
 package org.dataconservancy.cos.osf.packaging;
 
 import org.apache.jena.ontology.Individual;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
 import org.dataconservancy.cos.osf.client.model.AbstractMockServerTest;
 import org.dataconservancy.cos.osf.client.model.Comment;
 import org.dataconservancy.cos.osf.client.model.Node;
@@ -28,6 +34,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
@@ -63,7 +71,9 @@ import static org.dataconservancy.cos.rdf.support.OwlProperties.OSF_HAS_PATH;
 import static org.dataconservancy.cos.rdf.support.OwlProperties.OSF_HAS_SIZE;
 import static org.dataconservancy.cos.rdf.support.OwlProperties.OSF_HAS_WIKI;
 import static org.dataconservancy.cos.rdf.support.OwlProperties.OSF_IN_REPLY_TO;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Elliot Metsger (emetsger@jhu.edu)
@@ -212,4 +222,29 @@ public class OsfPackageGraphTest extends AbstractMockServerTest {
         testUtil.assertHasPropertyWithValue(commentIndividual, OSF_HAS_NODE, createResource(n.getId()));
         testUtil.assertHasPropertyWithValue(commentIndividual, OSF_HAS_CONTENT, c.getContent());
     }
-}
\ No newline at end of file
+
+    /**
+     * Insures that the OSF selector keeps the statements of subjects with an OSF type, and drops statements of other
+     * subjects.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOsfSelector() throws Exception {
+        final OsfPackageGraph packageGraph = new OsfPackageGraph(ontologyManager);
+        final Individual user = packageGraph.newIndividual(OSF_USER, "http://example.org/users/1");
+        packageGraph.addLiteral(user, OSF_HAS_FULLNAME.fqname(), "Jane Doe");
+
+        final Resource untyped = ontologyManager.getOntModel().createResource("http://example.org/untyped");
+        untyped.addLiteral(ontologyManager.datatypeProperty(OSF_HAS_FULLNAME.fqname()), "John Doe");
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        packageGraph.serialize(out, RDFFormat.NTRIPLES, packageGraph.OSF_SELECTOR);
+
+        final Model selected = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(selected, new ByteArrayInputStream(out.toByteArray()), Lang.NTRIPLES);
+        assertTrue(selected.contains(user, null, "Jane Doe"));
+        assertFalse(selected.containsResource(untyped));
+    }
+
+}
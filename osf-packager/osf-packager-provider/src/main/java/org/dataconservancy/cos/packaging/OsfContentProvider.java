@@ -19,16 +19,15 @@ package org.dataconservancy.cos.packaging;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.IRIResolver;
+import org.apache.jena.util.ResourceUtils;
 
+import org.dataconservancy.cos.osf.client.support.DaemonThreadFactory;
 import org.dataconservancy.cos.osf.packaging.OsfPackageGraph;
 import org.dataconservancy.cos.rdf.support.OwlClasses;
 import org.dataconservancy.cos.rdf.support.OwlProperties;
@@ -40,13 +39,31 @@ import org.dataconservancy.packaging.tool.model.ipm.Node;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * Implementation of ContentProvider for OSF source data.
@@ -71,16 +88,48 @@ public class OsfContentProvider extends AbstractContentProvider {
         private static final Property OSF_PROVIDER_NAME =
                 ResourceFactory.createProperty(OwlProperties.OSF_PROVIDER_NAME.fqname());
 
+        private static final Property OSF_SIZE = ResourceFactory.createProperty(OwlProperties.OSF_HAS_SIZE.fqname());
+
+        private static final Property OSF_SHA256 =
+                ResourceFactory.createProperty(OwlProperties.OSF_HAS_SHA256.fqname());
+
+        private static final Property OSF_DATE_MODIFIED =
+                ResourceFactory.createProperty(OwlProperties.OSF_HAS_DATEMODIFIED.fqname());
+
         private static final Property RDF_TYPE = ResourceFactory.createProperty(Rdf.Ns.RDF, "type");
     }
 
     private Logger                  log = LoggerFactory.getLogger(OsfContentProvider.class);
     private OsfContentResolver      contentResolver;
     private Model                   domainObjects = null;
-    private File                    temporaryDirectory;
+    private volatile File           temporaryDirectory;
+    private File                    workDirectory;
 
     private static final String missingProvider = "missing_storage_provider";
 
+    /**
+     * Default number of threads used to download binary content.
+     */
+    public static final int DEFAULT_DOWNLOAD_THREADS = 4;
+
+    /**
+     * Default number of simultaneous downloads allowed against a single host.
+     */
+    public static final int DEFAULT_DOWNLOADS_PER_HOST = 4;
+
+    /**
+     * Default size, in bytes, of the buffer used to transfer binary content to disk.
+     */
+    public static final int DEFAULT_TRANSFER_BUFFER_SIZE = 256 * 1024;
+
+    private int downloadThreads = DEFAULT_DOWNLOAD_THREADS;
+
+    private int downloadsPerHost = DEFAULT_DOWNLOADS_PER_HOST;
+
+    private boolean verifyChecksums = true;
+
+    private int transferBufferSize = DEFAULT_TRANSFER_BUFFER_SIZE;
+
     /**
      * Construct a content provider from the given graph and content resolver.
      *
@@ -90,28 +139,15 @@ public class OsfContentProvider extends AbstractContentProvider {
     public OsfContentProvider(final OsfPackageGraph graph, final OsfContentResolver resolver) {
         this.contentResolver = resolver;
 
-        // Allocate a unique location for storing any binary content that will go into the package.
-        // If another thread or JVM is running simultaneously, content will go into unique directory,
-        // and avoid any file name conflicts.
-        // The owner of this object must call close() when finished, and the folder is deleted there.
-        try {
-            temporaryDirectory = allocateTempDir();
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to allocate a temporary directory:" + e.getMessage(), e);
-        }
+        // Initialize the domain objects, copying the selected statements rather than serializing and re-parsing them
+        domainObjects = graph.select(graph.OSF_SELECTOR);
+        resolveRelativeUris(domainObjects);
 
-        // Initialize the domain objects
-        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
-        graph.serialize(sink, RDFFormat.TURTLE_PRETTY, graph.OSF_SELECTOR);
-
-        try {
-            log.debug("Packaging graph:\n{}", IOUtils.toString(sink.toByteArray(), "UTF-8"));
-        } catch (IOException e) {
-            // ignore
+        if (log.isDebugEnabled()) {
+            final StringWriter sink = new StringWriter();
+            domainObjects.write(sink, "TTL");
+            log.debug("Packaging graph:\n{}", sink);
         }
-
-        domainObjects = ModelFactory.createDefaultModel()
-                .read(new ByteArrayInputStream(sink.toByteArray()), null, "TTL");
     }
 
     /**
@@ -132,6 +168,31 @@ public class OsfContentProvider extends AbstractContentProvider {
         });
     }
 
+    /**
+     * Resolves the relative URIs of resources in the supplied model against the base URI of the process, as an RDF
+     * parser does when it reads a relative URI reference.  Individuals in the package graph are typically identified
+     * by relative URIs (e.g. an OSF GUID), and the domain objects have always been identified by the resolved form.
+     *
+     * @param model the model containing resources that may be identified by relative URIs
+     */
+    private static void resolveRelativeUris(final Model model) {
+        final Set<Resource> relative = new HashSet<>();
+        model.listSubjects().forEachRemaining(subject -> {
+            if (subject.isURIResource() && !IRIResolver.resolveString(subject.getURI()).equals(subject.getURI())) {
+                relative.add(subject);
+            }
+        });
+        model.listObjects().forEachRemaining(object -> {
+            if (object.isURIResource() && !IRIResolver.resolveString(object.asResource().getURI())
+                    .equals(object.asResource().getURI())) {
+                relative.add(object.asResource());
+            }
+        });
+
+        relative.forEach(resource ->
+                ResourceUtils.renameResource(resource, IRIResolver.resolveString(resource.getURI())));
+    }
+
     /**
      * Returns an RDF representation of the domain model from the OSF package graph.
      * @return The Model representing the domain objects.
@@ -140,13 +201,137 @@ public class OsfContentProvider extends AbstractContentProvider {
         return domainObjects;
     }
 
+    /**
+     * The number of threads used to download binary content when building the IPM tree.
+     *
+     * @return the number of download threads
+     */
+    public int getDownloadThreads() {
+        return downloadThreads;
+    }
+
+    /**
+     * Sets the number of threads used to download binary content when building the IPM tree.  A value of {@code 1}
+     * downloads each binary serially.
+     *
+     * @param downloadThreads the number of download threads, must be greater than zero
+     * @throws IllegalArgumentException if {@code downloadThreads} is less than one
+     */
+    public void setDownloadThreads(final int downloadThreads) {
+        if (downloadThreads < 1) {
+            throw new IllegalArgumentException("Download threads must be a positive integer.");
+        }
+        this.downloadThreads = downloadThreads;
+    }
+
+    /**
+     * The maximum number of binaries that will be downloaded simultaneously from a single host.
+     *
+     * @return the maximum number of simultaneous downloads per host
+     */
+    public int getDownloadsPerHost() {
+        return downloadsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of binaries that will be downloaded simultaneously from a single host.
+     *
+     * @param downloadsPerHost the maximum number of simultaneous downloads per host, must be greater than zero
+     * @throws IllegalArgumentException if {@code downloadsPerHost} is less than one
+     */
+    public void setDownloadsPerHost(final int downloadsPerHost) {
+        if (downloadsPerHost < 1) {
+            throw new IllegalArgumentException("Downloads per host must be a positive integer.");
+        }
+        this.downloadsPerHost = downloadsPerHost;
+    }
+
+    /**
+     * The size, in bytes, of the buffer used to transfer binary content to disk.
+     *
+     * @return the transfer buffer size
+     */
+    public int getTransferBufferSize() {
+        return transferBufferSize;
+    }
+
+    /**
+     * Sets the size, in bytes, of the buffer used to transfer binary content to disk.  Each download allocates one
+     * buffer of this size for the duration of the download.  A single read of the response body may return fewer
+     * bytes than the buffer holds, so a larger buffer bounds, rather than sets, the size of each write.
+     *
+     * @param transferBufferSize the size of the transfer buffer, must be greater than zero
+     * @throws IllegalArgumentException if {@code transferBufferSize} is less than one
+     */
+    public void setTransferBufferSize(final int transferBufferSize) {
+        if (transferBufferSize < 1) {
+            throw new IllegalArgumentException("Transfer buffer size must be a positive integer.");
+        }
+        this.transferBufferSize = transferBufferSize;
+    }
+
+    /**
+     * Whether downloaded binary content is verified against the SHA-256 checksum reported by OSF.
+     *
+     * @return true if checksums are verified
+     */
+    public boolean isVerifyChecksums() {
+        return verifyChecksums;
+    }
+
+    /**
+     * Sets whether downloaded binary content is verified against the SHA-256 checksum reported by OSF.  The checksum
+     * is computed as the content is downloaded, so verification does not require the content to be read again.  By
+     * default checksums are verified, and content that does not match its checksum fails the generation of the IPM
+     * tree.
+     *
+     * @param verifyChecksums true if checksums are to be verified
+     */
+    public void setVerifyChecksums(final boolean verifyChecksums) {
+        this.verifyChecksums = verifyChecksums;
+    }
+
+    /**
+     * The directory binary content is checkpointed in, or {@code null} if content is downloaded to a temporary
+     * directory.
+     *
+     * @return the work directory, may be {@code null}
+     */
+    public File getWorkDirectory() {
+        return workDirectory;
+    }
+
+    /**
+     * Sets a persistent directory to download binary content to.  Content downloaded to a work directory is retained
+     * by {@link #close()}, and is re-used by any content provider that later downloads the same content to the same
+     * work directory.  A package generation that fails part of the way through may be re-run without downloading the
+     * content that had already been retrieved, and a package that is generated again using the work directory of its
+     * previous generation only downloads the content that has changed since.
+     * <p>
+     * Content is identified by its binary URI, size, modification date and SHA-256 checksum: if any of these differ,
+     * the content is downloaded again.  Content is downloaded to a partial file, which is renamed only after the
+     * download completes, so interrupted downloads are never re-used.
+     * </p>
+     *
+     * @param workDirectory the work directory, or {@code null} to download content to a temporary directory
+     */
+    public void setWorkDirectory(final File workDirectory) {
+        this.workDirectory = workDirectory;
+    }
+
     /**
      * Returns the IPM tree corresponding to the provided OSF package graph.
      * We manually build the IPM tree here. Fundamentally, we're doing three things:
      * 1) Creating "directory" nodes that correspond to a domain object.
      * 2) Creating "content" nodes that correspond to a domain object that describes associated content.
      * 3) Arranging these nodes into a tree structure of our liking.
+     * <p>
+     * Binary content for "content" nodes is downloaded concurrently (see {@link #setDownloadThreads(int)} and
+     * {@link #setDownloadsPerHost(int)}) while the tree is being built.  This method does not return until every
+     * download has completed, so the returned tree is ready to be consumed by the packager.
+     * </p>
      * @return The root Node for the IPM tree representing the content.
+     * @throws RuntimeException if any binary content cannot be downloaded
      */
     public Node getIpmModel() {
 
@@ -155,63 +340,90 @@ public class OsfContentProvider extends AbstractContentProvider {
         root.setFileInfo(directory("root"));
         root.setIgnored(true);
 
-        // For each subject resource that is not anonymous, create a node
-        //   - If the type of the node is a osf:File, then it will be a content node
-        //   - Otherwise, make a directory node
-        domainObjects.listSubjects().forEachRemaining(subject -> {
+        final ExecutorService downloader = Executors.newFixedThreadPool(downloadThreads,
+                new DaemonThreadFactory("osf-content-download"));
+        final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+        final Map<Node, Future<FileInfo>> downloads = new LinkedHashMap<>();
 
-            if (subject.isAnon()) {
-                log.debug("Skipping IPM node creation for anonymous resource '{}'", subject.getId().toString());
-                return;
-            }
+        try {
+            // For each subject resource that is not anonymous, create a node
+            //   - If the type of the node is a osf:File, then it will be a content node
+            //   - Otherwise, make a directory node
+            domainObjects.listSubjects().forEachRemaining(subject -> {
+
+                if (subject.isAnon()) {
+                    log.debug("Skipping IPM node creation for anonymous resource '{}'", subject.getId().toString());
+                    return;
+                }
 
-            final URI u = URI.create(subject.getURI());
+                final URI u = URI.create(subject.getURI());
 
-            // Hash URIs do not get their own node; they will be considered to be a single node.
-            if (u.getFragment() != null) {
-                log.debug("Skipping IPM node creation for hash URI resource '{}'", subject.getURI());
-                return;
-            }
+                // Hash URIs do not get their own node; they will be considered to be a single node.
+                if (u.getFragment() != null) {
+                    log.debug("Skipping IPM node creation for hash URI resource '{}'", subject.getURI());
+                    return;
+                }
 
-            final String msgFmt = "Creating %s IPM node named %s for domain object %s";
+                final String msgFmt = "Creating %s IPM node named %s for domain object %s";
 
-            final Node n = new Node(u);
-            n.setDomainObject(u);
+                final Node n = new Node(u);
+                n.setDomainObject(u);
 
-            if (isFile(subject)) {
-                final String binaryUri = getBinaryUri(subject);
-                final String filename = getFileName(subject);
-                log.info(String.format(msgFmt, "binary file", filename, subject.getURI()));
+                if (isFile(subject)) {
+                    final String binaryUri = getBinaryUri(subject);
+                    final String filename = getFileName(subject);
+                    final String checkpoint = getCheckpointKey(subject, binaryUri);
+                    final String sha256 = verifyChecksums ? getSha256(subject) : null;
+                    log.info(String.format(msgFmt, "binary file", filename, subject.getURI()));
 
-                n.setFileInfo(
-                        contentFromUrl(
-                                filename,
-                                binaryUri));
+                    downloads.put(n, downloader.submit(withHostPermit(hostPermits, binaryUri,
+                            () -> contentFromUrl(filename, binaryUri, checkpoint, sha256))));
 
-            } else {
-                final String filename;
-                if (u.getPath() != null) {
-                    final String[] pathElements = u.getPath().split("\\/");
-                    filename = escape(pathElements[pathElements.length - 1]);
                 } else {
-                    filename = escape(subject.getURI());
+                    final String filename;
+                    if (u.getPath() != null) {
+                        final String[] pathElements = u.getPath().split("\\/");
+                        filename = escape(pathElements[pathElements.length - 1]);
+                    } else {
+                        filename = escape(subject.getURI());
+                    }
+                    log.info(String.format(msgFmt, "directory", filename, subject.getURI()));
+                    n.setFileInfo(directory(filename));
                 }
-                log.info(String.format(msgFmt, "directory", filename, subject.getURI()));
-                n.setFileInfo(directory(filename));
-            }
 
-            root.addChild(n);
+                root.addChild(n);
 
-        });
+            });
+
+            // Wait for all of the content to be downloaded before handing the tree to the caller
+            for (Map.Entry<Node, Future<FileInfo>> download : downloads.entrySet()) {
+                download.getKey().setFileInfo(download.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while downloading package content.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            downloader.shutdownNow();
+        }
 
         return root;
     }
 
     /**
-     * This method must be called when the owner is finished with the object.
+     * This method must be called when the owner is finished with the object.  Content downloaded to a
+     * {@link #setWorkDirectory(File) work directory} is retained.
      */
     public void close() {
-        // Clean up the downloaded binary files
+        // Clean up the downloaded binary files, if any were downloaded
+        if (temporaryDirectory == null) {
+            return;
+        }
+
         try {
             FileUtils.deleteDirectory(temporaryDirectory);
         } catch (IOException e) {
@@ -221,23 +433,46 @@ public class OsfContentProvider extends AbstractContentProvider {
 
     /**
      * Create a FileInfo that points to file content present at a URL.
-     * The content from the URL is downloaded and stored in a temporary file.
+     * The content from the URL is downloaded and stored in its own directory beneath the temporary directory, or if a
+     * work directory is set, in the work directory under a location derived from {@code checkpoint}.  Content already
+     * present in the work directory is not downloaded again.
      * <p>
      * The logical name of the file represented in the FileInfo is the {@code name} parameter.
      * </p>
      *
      * @param filename the logical name of the content represented by the returned {@code FileInfo}
      * @param contentUrl resolvable URL to the content
+     * @param checkpoint identifies the version of the content in the work directory
+     * @param sha256 the expected SHA-256 checksum of the content, may be {@code null}
      * @return populated FileInfo
-     * @throws RuntimeException if the content cannot be downloaded or saved to a temporary file
+     * @throws RuntimeException if the content cannot be downloaded or saved to a temporary file, or does not match
+     *                          the expected checksum
      */
-    private FileInfo contentFromUrl(final String filename, final String contentUrl) {
-        log.debug("  Retrieving '{}' content from '{}'", filename, contentUrl);
-
+    private FileInfo contentFromUrl(final String filename, final String contentUrl, final String checkpoint,
+                                    final String sha256) {
         final File outFile;
         try {
-            outFile = new File(temporaryDirectory, filename);
-            IOUtils.copy(contentResolver.resolve(contentUrl), new FileOutputStream(outFile));
+            if (workDirectory == null) {
+                log.debug("  Retrieving '{}' content from '{}'", filename, contentUrl);
+                // Files in different folders or components may share a name, so each download gets its own directory
+                final File downloadDir = new File(temporaryDirectory(), UUID.randomUUID().toString());
+                FileUtils.forceMkdir(downloadDir);
+                outFile = new File(downloadDir, filename);
+                download(contentUrl, outFile, sha256);
+            } else {
+                final File checkpointDir = new File(workDirectory,
+                        UUID.nameUUIDFromBytes(checkpoint.getBytes(StandardCharsets.UTF_8)).toString());
+                outFile = new File(checkpointDir, filename);
+                if (outFile.exists()) {
+                    log.debug("  Re-using '{}' content previously retrieved from '{}'", filename, contentUrl);
+                } else {
+                    log.debug("  Retrieving '{}' content from '{}'", filename, contentUrl);
+                    FileUtils.forceMkdir(checkpointDir);
+                    final File partFile = new File(checkpointDir, filename + ".part");
+                    download(contentUrl, partFile, sha256);
+                    Files.move(partFile.toPath(), outFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
         } catch (Exception e) {
             throw new RuntimeException(e.getMessage(), e);
         }
@@ -247,6 +482,117 @@ public class OsfContentProvider extends AbstractContentProvider {
         return info;
     }
 
+    /**
+     * Downloads the content at {@code contentUrl} to {@code target}, computing the SHA-256 checksum of the content as
+     * it is written.  Content is transferred to {@code target} through a buffer of
+     * {@link #setTransferBufferSize(int) configurable} size.  If an expected checksum is supplied and the computed
+     * checksum differs, {@code target} is deleted.  The content is read exactly once, and both streams are closed.
+     *
+     * @param contentUrl resolvable URL to the content
+     * @param target the file the content is written to
+     * @param sha256 the expected SHA-256 checksum of the content as a hexadecimal string, may be {@code null}
+     * @throws IOException if the content cannot be written, or does not match the expected checksum
+     */
+    private void download(final String contentUrl, final File target, final String sha256) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+
+        // The response body is an InputStream, so its bytes are read onto the heap regardless; digest and write them
+        // from that same array rather than copying them again
+        final byte[] buffer = new byte[transferBufferSize];
+        try (InputStream in = contentResolver.resolve(contentUrl);
+             OutputStream out = new FileOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        }
+
+        if (sha256 == null) {
+            return;
+        }
+
+        final String actual = hex(digest.digest());
+        if (!actual.equalsIgnoreCase(sha256)) {
+            FileUtils.deleteQuietly(target);
+            throw new IOException(String.format("Checksum mismatch for content retrieved from '%s': " +
+                    "expected SHA-256 %s, but was %s", contentUrl, sha256, actual));
+        }
+
+        log.trace("  Verified SHA-256 {} of content retrieved from '{}'", actual, contentUrl);
+    }
+
+    /**
+     * Encodes the supplied bytes as a lower-case hexadecimal string.
+     *
+     * @param bytes the bytes
+     * @return the hexadecimal string
+     */
+    private static String hex(final byte[] bytes) {
+        final StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Wraps the supplied {@code task} so that it executes only after acquiring a permit for the host of
+     * {@code contentUrl}, limiting the number of simultaneous downloads from any one host to
+     * {@code downloadsPerHost}.
+     *
+     * @param hostPermits permits keyed by host name
+     * @param contentUrl the URL of the content to be downloaded by the {@code task}
+     * @param task the download task
+     * @return a task which executes {@code task} while holding a permit for the host of {@code contentUrl}
+     */
+    private Callable<FileInfo> withHostPermit(final Map<String, Semaphore> hostPermits, final String contentUrl,
+                                              final Callable<FileInfo> task) {
+        final String host = String.valueOf(URI.create(contentUrl).getHost());
+        final Semaphore permits = hostPermits.computeIfAbsent(host, h -> new Semaphore(downloadsPerHost));
+        return () -> {
+            permits.acquire();
+            try {
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Answers the directory used to store downloaded binary content, allocating it on first use.  Packages without
+     * binary content never allocate a directory.
+     * <p>
+     * Allocating a unique location means that if another thread or JVM is running simultaneously, content will go
+     * into a unique directory, and avoid any file name conflicts.  The owner of this object must call
+     * {@link #close()} when finished, and the directory is deleted there.
+     * </p>
+     *
+     * @return the temporary directory
+     * @throws RuntimeException if the directory cannot be allocated
+     */
+    private File temporaryDirectory() {
+        if (temporaryDirectory == null) {
+            synchronized (this) {
+                if (temporaryDirectory == null) {
+                    try {
+                        temporaryDirectory = allocateTempDir();
+                    } catch (IOException e) {
+                        throw new RuntimeException("Unable to allocate a temporary directory:" + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        return temporaryDirectory;
+    }
+
     /**
      * Creates a temporary directory under {@code java.io.tmpdir}.  The directory will be uniquely named, so as to
      * avoid any filename conflicts with simultaneously executing downloads (e.g. another packager running in another
@@ -381,4 +727,38 @@ public class OsfContentProvider extends AbstractContentProvider {
                 OsfContentProvider.RdfProperties.OSF_BINARY_URI).getObject().asLiteral().getString();
     }
 
+    /**
+     * Obtains the value of the {@code osf:hasSha256} predicate from {@code domainObjects} for the supplied
+     * {@code subject}: the SHA-256 checksum of the content as reported by OSF.
+     *
+     * @param subject a resource from the supplied {@code domainObjects} which is an {@code osf:File}
+     * @return the SHA-256 checksum of the content, or {@code null} if OSF did not report one
+     */
+    private String getSha256(final Resource subject) {
+        final Statement sha256 = domainObjects.getProperty(subject, OsfContentProvider.RdfProperties.OSF_SHA256);
+        return (sha256 == null) ? null : sha256.getObject().asLiteral().getString();
+    }
+
+    /**
+     * Identifies the version of the content of the supplied {@code subject} from its binary URI, and the values of
+     * the {@code osf:hasSize}, {@code osf:hasDateModified} and {@code osf:hasSha256} predicates, if present.  Content
+     * checkpointed in the work directory under this key is considered current.  The checksum is part of the key
+     * so that content replaced without a change to its size or modification date is not mistaken for the
+     * checkpointed version.
+     *
+     * @param subject a resource from the supplied {@code domainObjects} which is an {@code osf:File}
+     * @param binaryUri the value of the {@code osf:hasBinaryUri} predicate for the supplied {@code subject}
+     * @return the key identifying the version of the content
+     */
+    private String getCheckpointKey(final Resource subject, final String binaryUri) {
+        final Statement size = domainObjects.getProperty(subject, OsfContentProvider.RdfProperties.OSF_SIZE);
+        final Statement modified = domainObjects.getProperty(subject,
+                OsfContentProvider.RdfProperties.OSF_DATE_MODIFIED);
+        final String sha256 = getSha256(subject);
+        return binaryUri + " " +
+                (size == null ? "" : size.getObject().toString()) + " " +
+                (modified == null ? "" : modified.getObject().toString()) +
+                (sha256 == null ? "" : " " + sha256.toLowerCase());
+    }
+
 }
@@ -18,6 +18,7 @@ package org.dataconservancy.cos.packaging;
 
 import com.squareup.okhttp.Call;
 import com.squareup.okhttp.Request;
+import org.apache.commons.io.FileUtils;
 import org.apache.jena.riot.RDFFormat;
 
 import org.dataconservancy.cos.osf.client.model.AbstractMockServerTest;
@@ -33,24 +34,39 @@ import org.dataconservancy.packaging.tool.model.PropertiesConfigurationParameter
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestName;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 /**
  * Simple test exercising the IpmPackager
  *
  * @author Elliot Metsger (emetsger@jhu.edu)
  */
 public class OsfContentProviderTest extends AbstractMockServerTest {
+
+    // The binary content served by the mock server is a stand-in, which does not match the checksums reported in the
+    // JSON responses, so most tests do not verify checksums.
+
     private OntologyManager ontologyManager = new OntologyManager();
 
     @Rule
     public TestName TEST_NAME = new TestName();
 
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     @Override
     protected String getOsfServiceConfigurationResource() {
         return "/org/dataconservancy/cos/packaging/config/osf-client.json";
@@ -89,6 +105,7 @@ public class OsfContentProviderTest extends AbstractMockServerTest {
                 throw new RuntimeException(e.getMessage(), e);
             }
         });
+        contentProvider.setVerifyChecksums(false);
 
         // Read package generation parameters from a resource file.
         final InputStream paramStream =
@@ -142,6 +159,7 @@ public class OsfContentProviderTest extends AbstractMockServerTest {
                 throw new RuntimeException(e.getMessage(), e);
             }
         });
+        contentProvider.setVerifyChecksums(false);
 
         // Read package generation parameters from a resource file.
         final InputStream paramStream =
@@ -152,4 +170,140 @@ public class OsfContentProviderTest extends AbstractMockServerTest {
         contentProvider.close();
     }
 
-}
\ No newline at end of file
+    /**
+     * Insures that content downloaded to a work directory survives {@code close()}, and is not downloaded again by a
+     * subsequent content provider using the same work directory.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCheckpointedContentIsReused() throws Exception {
+        final OsfPackageGraph packageGraph = simplePackageGraph();
+
+        final File workDir = tmpFolder.newFolder();
+        final AtomicInteger downloads = new AtomicInteger();
+        final OsfContentResolver resolver = countingResolver(downloads);
+
+        final OsfContentProvider first = new OsfContentProvider(packageGraph, resolver);
+        first.setWorkDirectory(workDir);
+        first.setVerifyChecksums(false);
+        first.getIpmModel();
+        first.close();
+
+        final int downloaded = downloads.get();
+        assertTrue(downloaded > 0);
+
+        final OsfContentProvider second = new OsfContentProvider(packageGraph, resolver);
+        second.setWorkDirectory(workDir);
+        second.setVerifyChecksums(false);
+        second.getIpmModel();
+        second.close();
+
+        assertEquals(downloaded, downloads.get());
+    }
+
+    /**
+     * Insures that content which does not match the checksum reported by OSF fails the generation of the IPM tree.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testChecksumMismatch() throws Exception {
+        final OsfPackageGraph packageGraph = simplePackageGraph();
+
+        final OsfContentProvider underTest =
+                new OsfContentProvider(packageGraph, countingResolver(new AtomicInteger()));
+
+        try {
+            underTest.getIpmModel();
+            fail("Expected a RuntimeException caused by a checksum mismatch");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertTrue(e.getCause().getMessage().startsWith("Checksum mismatch"));
+        } finally {
+            underTest.close();
+        }
+    }
+
+    /**
+     * Insures that content is transferred intact when the transfer buffer is smaller than the content.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSmallTransferBuffer() throws Exception {
+        final OsfPackageGraph packageGraph = simplePackageGraph();
+
+        final File workDir = tmpFolder.newFolder();
+        final OsfContentProvider underTest =
+                new OsfContentProvider(packageGraph, countingResolver(new AtomicInteger()));
+        underTest.setVerifyChecksums(false);
+        underTest.setWorkDirectory(workDir);
+        underTest.setTransferBufferSize(7);
+        underTest.getIpmModel();
+        underTest.close();
+
+        // The same content, transferred with the default buffer
+        final File expectedDir = tmpFolder.newFolder();
+        final OsfContentProvider expected =
+                new OsfContentProvider(packageGraph, countingResolver(new AtomicInteger()));
+        expected.setVerifyChecksums(false);
+        expected.setWorkDirectory(expectedDir);
+        expected.getIpmModel();
+        expected.close();
+
+        final Collection<File> expectedFiles = FileUtils.listFiles(expectedDir, null, true);
+        assertTrue(expectedFiles.size() > 0);
+        assertEquals(expectedFiles.size(), FileUtils.listFiles(workDir, null, true).size());
+        for (File expectedFile : expectedFiles) {
+            final File actualFile = new File(workDir, expectedDir.toURI().relativize(expectedFile.toURI()).getPath());
+            assertTrue(FileUtils.contentEquals(expectedFile, actualFile));
+        }
+    }
+
+    /**
+     * Builds a package graph containing registration eq7a4, using the responses of testCreatePackageSimple.
+     *
+     * @return the package graph
+     * @throws IOException if the registration cannot be retrieved
+     */
+    private OsfPackageGraph simplePackageGraph() throws IOException {
+        factory.interceptors().add(new RecursiveInterceptor(
+                "/json/OsfContentProviderTest/testCreatePackageSimple/", OsfContentProviderTest.class));
+        final Registration registration = factory.getOsfService(OsfService.class)
+                .registrationById("eq7a4").execute().body();
+
+        final OsfPackageGraph packageGraph = new OsfPackageGraph(ontologyManager);
+        packageGraph.add(registration);
+        return packageGraph;
+    }
+
+    /**
+     * Answers a resolver which retrieves content using the test HTTP client, counting each retrieval.
+     *
+     * @param downloads incremented each time content is retrieved
+     * @return the resolver
+     */
+    private OsfContentResolver countingResolver(final AtomicInteger downloads) {
+        return (url) -> {
+            downloads.incrementAndGet();
+            final Call req = factory.getHttpClient().newCall(new Request.Builder().url(url).build());
+            try {
+                return req.execute().body().byteStream();
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * Insures the transfer buffer size must be positive.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTransferBufferSizeMustBePositive() throws Exception {
+        new OsfContentProvider(new OsfPackageGraph(ontologyManager), (url) -> null).setTransferBufferSize(0);
+    }
+
+}